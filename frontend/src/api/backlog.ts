@@ -17,6 +17,24 @@ export interface BacklogEntry {
   updatedAt: string;
 }
 
+export interface BacklogPage {
+  content: BacklogEntry[];
+  totalElements: number;
+  totalPages: number;
+  number: number;
+  size: number;
+}
+
+export interface BacklogFilters {
+  status?: BacklogStatus;
+  name?: string;
+  from?: string;
+  to?: string;
+  page?: number;
+  size?: number;
+  sort?: string;
+}
+
 export interface BacklogAddRequest {
   igdbId: number;
   name: string;
@@ -36,10 +54,8 @@ export interface BacklogUpdateRequest {
 }
 
 export const backlogApi = {
-  list: (status?: BacklogStatus) =>
-    client
-      .get<BacklogEntry[]>("/backlog", { params: status ? { status } : undefined })
-      .then((r) => r.data),
+  list: (filters: BacklogFilters = {}) =>
+    client.get<BacklogPage>("/backlog", { params: filters }).then((r) => r.data),
 
   add: (data: BacklogAddRequest) =>
     client.post<BacklogEntry>("/backlog", data).then((r) => r.data),
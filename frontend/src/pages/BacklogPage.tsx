@@ -474,10 +474,11 @@ export function BacklogPage() {
   const [activeTab, setActiveTab] = useState<BacklogStatus | "ALL">("ALL");
   const [addOpen, setAddOpen] = useState(false);
 
-  const { data: entries = [], isLoading, isError } = useQuery({
+  const { data, isLoading, isError } = useQuery({
     queryKey: ["backlog"],
-    queryFn: () => backlogApi.list(),
+    queryFn: () => backlogApi.list({ size: 200, sort: "updatedAt,desc" }),
   });
+  const entries = useMemo(() => data?.content ?? [], [data]);
 
   const tabCounts = useMemo(() => {
     const counts: Record<string, number> = { ALL: entries.length };
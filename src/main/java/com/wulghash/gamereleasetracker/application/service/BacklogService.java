@@ -2,16 +2,19 @@ package com.wulghash.gamereleasetracker.application.service;
 
 import com.wulghash.gamereleasetracker.domain.model.BacklogEntry;
 import com.wulghash.gamereleasetracker.domain.model.BacklogEntryNotFoundException;
+import com.wulghash.gamereleasetracker.domain.model.BacklogEntryView;
 import com.wulghash.gamereleasetracker.domain.model.BacklogStatus;
 import com.wulghash.gamereleasetracker.domain.model.GameAlreadyInBacklogException;
 import com.wulghash.gamereleasetracker.domain.port.in.BacklogUseCase;
 import com.wulghash.gamereleasetracker.domain.port.out.BacklogRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -24,9 +27,6 @@ public class BacklogService implements BacklogUseCase {
     @Override
     @Transactional
     public BacklogEntry add(UUID userId, BacklogAddCommand cmd) {
-        if (backlogRepository.existsByUserIdAndIgdbId(userId, cmd.igdbId())) {
-            throw new GameAlreadyInBacklogException(cmd.igdbId());
-        }
         LocalDateTime now = LocalDateTime.now();
         BacklogEntry entry = BacklogEntry.builder()
                 .id(UUID.randomUUID())
@@ -42,12 +42,16 @@ public class BacklogService implements BacklogUseCase {
                 .createdAt(now)
                 .updatedAt(now)
                 .build();
-        return backlogRepository.save(entry);
+        if (!backlogRepository.insert(entry)) {
+            throw new GameAlreadyInBacklogException(cmd.igdbId());
+        }
+        return entry;
     }
 
     @Override
-    public List<BacklogEntry> list(UUID userId, BacklogStatus statusFilter) {
-        return backlogRepository.findAllByUserId(userId, statusFilter);
+    public Page<BacklogEntryView> list(UUID userId, BacklogStatus statusFilter, String namePrefix,
+                                       LocalDate from, LocalDate to, Pageable pageable) {
+        return backlogRepository.findAll(userId, statusFilter, namePrefix, from, to, pageable);
     }
 
     @Override
@@ -70,8 +74,8 @@ public class BacklogService implements BacklogUseCase {
     @Override
     @Transactional
     public void delete(UUID entryId, UUID userId) {
-        backlogRepository.findByIdAndUserId(entryId, userId)
-                .orElseThrow(() -> new BacklogEntryNotFoundException(entryId));
-        backlogRepository.deleteByIdAndUserId(entryId, userId);
+        if (!backlogRepository.deleteByIdAndUserId(entryId, userId)) {
+            throw new BacklogEntryNotFoundException(entryId);
+        }
     }
 }
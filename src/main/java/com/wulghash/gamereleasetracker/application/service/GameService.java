@@ -1,8 +1,10 @@
 package com.wulghash.gamereleasetracker.application.service;
 
 import com.wulghash.gamereleasetracker.domain.model.Game;
+import com.wulghash.gamereleasetracker.domain.model.GameCursor;
 import com.wulghash.gamereleasetracker.domain.model.GameNotFoundException;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.GameView;
 import com.wulghash.gamereleasetracker.domain.model.InvalidStatusTransitionException;
 import com.wulghash.gamereleasetracker.domain.model.Platform;
 import com.wulghash.gamereleasetracker.domain.model.Subscription;
@@ -13,6 +15,7 @@ import com.wulghash.gamereleasetracker.infrastructure.mail.EmailNotificationServ
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -52,7 +55,7 @@ public class GameService implements GameUseCase {
                 .updatedAt(now)
                 .build();
 
-        return gameRepository.save(game);
+        return gameRepository.insert(game);
     }
 
     @Override
@@ -62,10 +65,16 @@ public class GameService implements GameUseCase {
     }
 
     @Override
-    public Page<Game> list(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to, Pageable pageable) {
+    public Page<GameView> list(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to, Pageable pageable) {
         return gameRepository.findAll(userId, platform, status, from, to, pageable);
     }
 
+    @Override
+    public Slice<GameView> listAfter(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to,
+                                     GameCursor after, int limit) {
+        return gameRepository.findAfter(userId, platform, status, from, to, after, limit);
+    }
+
     @Override
     @Transactional
     public Game update(UUID id, UUID userId, GameCommand cmd) {
@@ -124,9 +133,8 @@ public class GameService implements GameUseCase {
     @Override
     @Transactional
     public void delete(UUID id, UUID userId) {
-        if (!gameRepository.existsById(id, userId)) {
+        if (!gameRepository.deleteById(id, userId)) {
             throw new GameNotFoundException(id);
         }
-        gameRepository.deleteById(id, userId);
     }
 }
@@ -1,21 +1,38 @@
 package com.wulghash.gamereleasetracker.application.service;
 
 import com.wulghash.gamereleasetracker.domain.model.Game;
+import com.wulghash.gamereleasetracker.domain.model.GameLookupUnavailableException;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
 import com.wulghash.gamereleasetracker.domain.model.Subscription;
 import com.wulghash.gamereleasetracker.domain.port.out.GameLookupPort;
 import com.wulghash.gamereleasetracker.domain.port.out.GameRepository;
 import com.wulghash.gamereleasetracker.domain.port.out.SubscriptionRepository;
 import com.wulghash.gamereleasetracker.infrastructure.mail.EmailNotificationService;
+import com.wulghash.gamereleasetracker.infrastructure.mail.RenderedNotification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 @RequiredArgsConstructor
@@ -26,43 +43,182 @@ public class IgdbSyncScheduler {
     private final SubscriptionRepository subscriptionRepository;
     private final GameLookupPort gameLookupPort;
     private final EmailNotificationService emailNotificationService;
+    private final TransactionOperations transactionOperations;
+    private final ShardedJobRunner jobRunner;
+    private final JobCalendar jobCalendar;
+
+    static final String JOB_NAME = "igdb-sync";
+    static final String MIRROR_JOB_NAME = "igdb-mirror-pull";
+    static final String CRON = "0 0 3 * * *";
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    @Value("${app.igdb.sync.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Value("${app.igdb.sync.workers:4}")
+    private int workers = 4;
+
+    @Value("${app.igdb.sync.retry-backoff:PT2S}")
+    private Duration retryBackoff = Duration.ofSeconds(2);
 
     // Runs at 3 AM daily — before the 9 AM notification job, but only touches past-due games.
     // Games releasing TODAY are intentionally left as UPCOMING so the 9 AM notifications fire.
-    @Scheduled(cron = "0 0 3 * * *", zone = "Europe/Warsaw")
+    @Scheduled(cron = CRON, zone = JobCalendar.ZONE)
     public void syncUpcomingGames() {
-        LocalDate today = LocalDate.now();
+        LocalDate today = jobCalendar.today();
         log.info("Running IGDB sync for {}", today);
 
-        List<Game> upcomingGames = gameRepository.findAllByStatus(GameStatus.UPCOMING);
+        // Auto-transition: release date is strictly in the past (not today). One set-based
+        // UPDATE for the whole catalog; released games then drop out of the UPCOMING walk below.
+        List<UUID> released = gameRepository.releaseAllDueBefore(today);
+        log.debug("Auto-transitioned to RELEASED: {}", released);
 
-        int refreshed = 0;
-        int transitioned = 0;
-
-        for (Game game : upcomingGames) {
-            // Auto-transition: release date is strictly in the past (not today)
-            if (!game.isTba() && game.getReleaseDate().isBefore(today)) {
-                autoRelease(game);
-                transitioned++;
-                continue; // no need to sync a game we just released
+        SyncProgress progress = new SyncProgress(today);
+        ExecutorService pool = Executors.newFixedThreadPool(workers, new WorkerThreadFactory());
+        // Caps chunks held in memory to the ones being worked on plus one waiting per worker
+        Semaphore slots = new Semaphore(workers * 2);
+        int shards;
+        try {
+            // Other replicas take the remaining shards of today's run
+            shards = jobRunner.run(JOB_NAME, today.toString(), run -> syncShard(pool, slots, progress, run));
+        } finally {
+            pool.shutdown();
+            awaitQuietly(pool);
+        }
+
+        log.info("IGDB sync complete: {} shard(s) on this node, {} date(s) updated, {} game(s) auto-transitioned to RELEASED, {} chunk(s) failed",
+                shards, progress.refreshed.get(), released.size(), progress.failedChunks.get());
+    }
+
+    // A shard counts as done only once all of its chunks have finished
+    private void syncShard(ExecutorService pool, Semaphore slots, SyncProgress progress, ShardRun run) {
+        Deque<PendingChunk> inFlight = new ArrayDeque<>();
+        try {
+            walkChunks(pool, slots, progress, run, inFlight);
+            while (!inFlight.isEmpty()) {
+                PendingChunk chunk = inFlight.poll();
+                chunk.result().get();
+                run.checkpoint(chunk.lastId(), chunk.size());
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("IGDB sync interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("IGDB sync chunk failed", e.getCause());
+        }
+    }
+
+    // Walks the shard's upcoming games in id-ordered chunks, starting after its last checkpoint, so
+    // heap use stays flat however big the catalog is. Each chunk is refreshed on the worker pool;
+    // IGDB's own rate limiter paces the actual calls.
+    private void walkChunks(ExecutorService pool, Semaphore slots, SyncProgress progress, ShardRun run,
+                            Deque<PendingChunk> inFlight) throws InterruptedException, ExecutionException {
+        UUID lastId = run.getResumeAfter();
+        List<Game> chunk;
+        do {
+            checkpointFinished(run, inFlight);
+            chunk = gameRepository.findChunkByStatus(GameStatus.UPCOMING, run.getShard(), lastId, chunkSize);
+            if (chunk.isEmpty()) return;
+            lastId = chunk.get(chunk.size() - 1).getId();
 
             // IGDB date refresh for games that were added via IGDB lookup
-            if (game.getIgdbId() != null) {
-                if (refreshDateFromIgdb(game)) refreshed++;
+            List<Game> toRefresh = chunk.stream()
+                    .filter(game -> game.getIgdbId() != null)
+                    .toList();
+
+            if (toRefresh.isEmpty()) {
+                inFlight.add(new PendingChunk(CompletableFuture.completedFuture(null), lastId, chunk.size()));
+                continue;
+            }
+            if (progress.igdbReady == null) progress.igdbReady = prepareIgdbRefresh(progress.day);
+            // Not an empty shard: leave it unfinished so a catch-up run refreshes it once IGDB is back
+            if (!progress.igdbReady) {
+                throw new GameLookupUnavailableException("IGDB unavailable, leaving shard " + run.getShard().getIndex() + " for a later run");
             }
-        }
 
-        log.info("IGDB sync complete: {} date(s) updated, {} game(s) auto-transitioned to RELEASED",
-                refreshed, transitioned);
+            slots.acquire();
+            int chunkNo = progress.submitted.incrementAndGet();
+            inFlight.add(new PendingChunk(pool.submit(() -> {
+                try {
+                    progress.refreshed.addAndGet(refreshChunk(chunkNo, toRefresh, progress));
+                    log.info("IGDB sync progress: {}/{} chunk(s) done, {} game(s) checked",
+                            progress.done.incrementAndGet(), progress.submitted.get(),
+                            progress.checked.addAndGet(toRefresh.size()));
+                } finally {
+                    slots.release();
+                }
+            }), lastId, chunk.size()));
+        } while (chunk.size() == chunkSize);
     }
 
-    private boolean refreshDateFromIgdb(Game game) {
+    // Chunks finish out of order; the checkpoint only moves past a chunk once every earlier one is done
+    private static void checkpointFinished(ShardRun run, Deque<PendingChunk> inFlight)
+            throws InterruptedException, ExecutionException {
+        while (!inFlight.isEmpty() && inFlight.peek().result().isDone()) {
+            PendingChunk chunk = inFlight.poll();
+            chunk.result().get();
+            run.checkpoint(chunk.lastId(), chunk.size());
+        }
+    }
+
+    private boolean prepareIgdbRefresh(LocalDate day) {
+        if (!gameLookupPort.isAvailable()) {
+            log.warn("IGDB unavailable, postponing date refresh");
+            return false;
+        }
+
         try {
-            Optional<LocalDate> newDateOpt = gameLookupPort.findReleaseDateByIgdbId(game.getIgdbId());
-            if (newDateOpt.isEmpty()) return false;
+            // One node per run pulls the catalog delta. Until that pull is recorded as finished for
+            // this day, lookups on every node go to IGDB rather than to a stale or half-written copy.
+            if (!jobRunner.runOnce(MIRROR_JOB_NAME, day.toString(), () -> gameLookupPort.refreshLocalCatalog(day))) {
+                log.info("IGDB catalog refresh for {} is handled by another node", day);
+            }
+        } catch (Exception e) {
+            log.warn("IGDB catalog refresh failed, falling back to live lookups: {}", e.getMessage());
+        }
+        return true;
+    }
 
-            LocalDate newDate = newDateOpt.get();
+    // A failing chunk is retried on its own. If it still fails, or IGDB is down, it fails its shard:
+    // the checkpoint stays before the chunk and the shard is left unfinished for a later run.
+    private int refreshChunk(int chunkNo, List<Game> games, SyncProgress progress) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return refreshDatesFromIgdb(games, progress.day);
+            } catch (GameLookupUnavailableException e) {
+                // The circuit is open; retrying right away would only be rejected again
+                log.warn("IGDB unavailable, giving up on chunk {} ({} game(s)) for this run: {}", chunkNo, games.size(), e.getMessage());
+                progress.failedChunks.incrementAndGet();
+                throw e;
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    log.error("Chunk {} ({} game(s)) failed after {} attempt(s): {}",
+                            chunkNo, games.size(), attempt, e.getMessage());
+                    progress.failedChunks.incrementAndGet();
+                    throw e;
+                }
+                log.warn("Chunk {} failed (attempt {}/{}), retrying: {}", chunkNo, attempt, MAX_CHUNK_ATTEMPTS, e.getMessage());
+                if (!sleep(retryBackoff.multipliedBy(attempt))) {
+                    throw new IllegalStateException("IGDB sync interrupted while retrying chunk " + chunkNo, e);
+                }
+            }
+        }
+    }
+
+    private int refreshDatesFromIgdb(List<Game> games, LocalDate day) {
+        Map<Long, LocalDate> igdbDates = gameLookupPort.findReleaseDatesByIgdbIds(
+                games.stream().map(Game::getIgdbId).toList(), day);
+
+        int refreshed = 0;
+        for (Game game : games) {
+            LocalDate newDate = igdbDates.get(game.getIgdbId());
+            if (newDate != null && applyNewDate(game, newDate)) refreshed++;
+        }
+        return refreshed;
+    }
+
+    private boolean applyNewDate(Game game, LocalDate newDate) {
+        try {
             if (newDate.equals(game.getReleaseDate())) return false;
 
             LocalDate oldDate = game.getReleaseDate();
@@ -73,13 +229,18 @@ public class IgdbSyncScheduler {
                     .tba(false)
                     .updatedAt(LocalDateTime.now())
                     .build();
-            gameRepository.save(updated);
 
-            List<Subscription> subscribers = subscriptionRepository.findAllByGameId(game.getId());
-            for (Subscription sub : subscribers) {
-                emailNotificationService.sendDateChanged(
-                        sub.getEmail(), updated, oldDate, sub.getUnsubscribeToken());
-            }
+            // The new date and its notifications commit together
+            transactionOperations.executeWithoutResult(status -> {
+                gameRepository.save(updated);
+
+                List<Subscription> subscribers = subscriptionRepository.findAllByGameId(game.getId());
+                if (subscribers.isEmpty()) return;
+                RenderedNotification notification = emailNotificationService.renderDateChanged(updated, oldDate);
+                for (Subscription sub : subscribers) {
+                    emailNotificationService.send(notification, sub.getEmail(), sub.getUnsubscribeToken());
+                }
+            });
 
             return true;
         } catch (Exception e) {
@@ -88,12 +249,53 @@ public class IgdbSyncScheduler {
         }
     }
 
-    private void autoRelease(Game game) {
-        log.info("Auto-transitioning '{}' to RELEASED (was due {})", game.getTitle(), game.getReleaseDate());
-        Game updated = game.toBuilder()
-                .status(GameStatus.RELEASED)
-                .updatedAt(LocalDateTime.now())
-                .build();
-        gameRepository.save(updated);
+    private static boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void awaitQuietly(ExecutorService pool) {
+        try {
+            if (!pool.awaitTermination(1, TimeUnit.HOURS)) {
+                log.warn("IGDB sync workers still running after 1 hour, abandoning them");
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pool.shutdownNow();
+        }
+    }
+
+    private record PendingChunk(Future<?> result, UUID lastId, int size) {}
+
+    private static class SyncProgress {
+        final LocalDate day;
+        final AtomicInteger submitted = new AtomicInteger();
+        final AtomicInteger done = new AtomicInteger();
+        final AtomicInteger checked = new AtomicInteger();
+        final AtomicInteger refreshed = new AtomicInteger();
+        final AtomicInteger failedChunks = new AtomicInteger();
+        // Checked once per run, on the first chunk that needs IGDB; only the walking thread touches it
+        Boolean igdbReady;
+
+        SyncProgress(LocalDate day) {
+            this.day = day;
+        }
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger ids = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "igdb-sync-" + ids.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
     }
 }
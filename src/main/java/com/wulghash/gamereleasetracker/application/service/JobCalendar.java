@@ -0,0 +1,41 @@
+package com.wulghash.gamereleasetracker.application.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * The calendar scheduled jobs run on. Their crons fire in {@link #ZONE} and each run is keyed by the
+ * date there, so a job and the catch-up that looks for its run agree on the key whatever zone the
+ * JVM itself is in.
+ */
+@Component
+public class JobCalendar {
+
+    public static final String ZONE = "Europe/Warsaw";
+
+    private final Clock clock;
+
+    public JobCalendar() {
+        this(Clock.systemUTC());
+    }
+
+    public JobCalendar(Clock clock) {
+        this.clock = clock.withZone(ZoneId.of(ZONE));
+    }
+
+    public ZoneId zone() {
+        return clock.getZone();
+    }
+
+    public ZonedDateTime now() {
+        return ZonedDateTime.now(clock);
+    }
+
+    public LocalDate today() {
+        return LocalDate.now(clock);
+    }
+}
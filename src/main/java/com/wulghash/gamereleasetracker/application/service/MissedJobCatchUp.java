@@ -0,0 +1,57 @@
+package com.wulghash.gamereleasetracker.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Runs today's scheduled jobs that should have run already but have no completed run: the app was
+ * down at the scheduled time, or a run was interrupted. Checked shortly after startup and then periodically,
+ * which also picks up shards of a crashed node once their leases expire. Only today's run is caught
+ * up on; a release-day e-mail for a past day is no longer worth sending.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MissedJobCatchUp {
+
+    private final ShardedJobRunner jobRunner;
+    private final IgdbSyncScheduler igdbSyncScheduler;
+    private final NotificationScheduler notificationScheduler;
+    private final JobCalendar jobCalendar;
+
+    // First check shortly after startup, on the scheduler pool rather than the startup thread
+    @Scheduled(initialDelayString = "${app.jobs.catch-up-initial-delay:PT30S}",
+            fixedDelayString = "${app.jobs.catch-up-interval:PT5M}")
+    public void catchUpMissedRuns() {
+        catchUp(jobCalendar.now());
+    }
+
+    void catchUp(ZonedDateTime at) {
+        // The same day the jobs key their runs by, not the JVM's own date
+        ZonedDateTime now = at.withZoneSameInstant(jobCalendar.zone());
+        String runKey = now.toLocalDate().toString();
+        catchUp(now, runKey, IgdbSyncScheduler.JOB_NAME, IgdbSyncScheduler.CRON, igdbSyncScheduler::syncUpcomingGames);
+        catchUp(now, runKey, NotificationScheduler.RELEASE_TODAY_JOB, NotificationScheduler.CRON,
+                notificationScheduler::sendReleaseNotifications);
+        catchUp(now, runKey, NotificationScheduler.RELEASE_SOON_JOB, NotificationScheduler.CRON,
+                notificationScheduler::sendWeeklyReminders);
+    }
+
+    private void catchUp(ZonedDateTime now, String runKey, String jobName, String cron, Runnable job) {
+        ZonedDateTime dueToday = CronExpression.parse(cron).next(now.toLocalDate().atStartOfDay(now.getZone()));
+        if (dueToday == null || dueToday.isAfter(now)) return;
+        if (jobRunner.isCompleted(jobName, runKey)) return;
+
+        log.info("Job {} was due at {} but has no completed run for {}, running it now", jobName, dueToday, runKey);
+        try {
+            job.run();
+        } catch (Exception e) {
+            log.error("Catch-up run of {} failed: {}", jobName, e.getMessage());
+        }
+    }
+}
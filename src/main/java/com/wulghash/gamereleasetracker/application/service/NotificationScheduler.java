@@ -2,58 +2,78 @@ package com.wulghash.gamereleasetracker.application.service;
 
 import com.wulghash.gamereleasetracker.domain.model.Game;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
-import com.wulghash.gamereleasetracker.domain.model.Subscription;
-import com.wulghash.gamereleasetracker.domain.port.out.GameRepository;
 import com.wulghash.gamereleasetracker.domain.port.out.SubscriptionRepository;
 import com.wulghash.gamereleasetracker.infrastructure.mail.EmailNotificationService;
+import com.wulghash.gamereleasetracker.infrastructure.mail.RenderedNotification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationScheduler {
 
-    private final GameRepository gameRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final EmailNotificationService emailNotificationService;
+    private final ShardedJobRunner jobRunner;
+    private final TransactionOperations transactionOperations;
+    private final JobCalendar jobCalendar;
 
-    @Scheduled(cron = "0 0 9 * * *", zone = "Europe/Warsaw")
+    static final String RELEASE_TODAY_JOB = "release-today";
+    static final String RELEASE_SOON_JOB = "release-soon";
+    static final String CRON = "0 0 9 * * *";
+
+    @Scheduled(cron = CRON, zone = JobCalendar.ZONE)
     public void sendReleaseNotifications() {
-        LocalDate today = LocalDate.now();
+        LocalDate today = jobCalendar.today();
         log.info("Running release-day notifications for {}", today);
 
-        List<Game> games = gameRepository.findAllByStatusAndReleaseDate(GameStatus.UPCOMING, today);
-
-        for (Game game : games) {
-            List<Subscription> subscribers = subscriptionRepository.findAllByGameId(game.getId());
-            for (Subscription sub : subscribers) {
-                emailNotificationService.sendReleaseToday(sub.getEmail(), game, sub.getUnsubscribeToken());
-            }
-        }
+        int sent = fanOut(RELEASE_TODAY_JOB, today, today, emailNotificationService::renderReleaseToday);
 
-        log.info("Release-day notifications sent for {} game(s)", games.size());
+        log.info("Release-day notifications sent to {} subscriber(s)", sent);
     }
 
-    @Scheduled(cron = "0 0 9 * * *", zone = "Europe/Warsaw")
+    @Scheduled(cron = CRON, zone = JobCalendar.ZONE)
     public void sendWeeklyReminders() {
-        LocalDate inSevenDays = LocalDate.now().plusDays(7);
+        LocalDate today = jobCalendar.today();
+        LocalDate inSevenDays = today.plusDays(7);
         log.info("Running 7-day reminder notifications for release date {}", inSevenDays);
 
-        List<Game> games = gameRepository.findAllByStatusAndReleaseDate(GameStatus.UPCOMING, inSevenDays);
+        int sent = fanOut(RELEASE_SOON_JOB, today, inSevenDays, emailNotificationService::renderReleaseSoon);
 
-        for (Game game : games) {
-            List<Subscription> subscribers = subscriptionRepository.findAllByGameId(game.getId());
-            for (Subscription sub : subscribers) {
-                emailNotificationService.sendReleaseSoon(sub.getEmail(), game, sub.getUnsubscribeToken());
-            }
-        }
+        log.info("7-day reminders sent to {} subscriber(s)", sent);
+    }
 
-        log.info("7-day reminders sent for {} game(s)", games.size());
+    // Only the shards this node claims are sent from here. Each shard's e-mails and its checkpoint
+    // are queued in one transaction, so an interrupted shard is redone whole or not at all; a game's
+    // message is rendered once and reused for all of its subscribers.
+    private int fanOut(String jobName, LocalDate runDate, LocalDate releaseDate, Function<Game, RenderedNotification> render) {
+        AtomicInteger sent = new AtomicInteger();
+        jobRunner.run(jobName, runDate.toString(), run -> transactionOperations.executeWithoutResult(status -> {
+            Map<UUID, RenderedNotification> rendered = new HashMap<>();
+            AtomicReference<UUID> lastGameId = new AtomicReference<>();
+            AtomicInteger shardSent = new AtomicInteger();
+            subscriptionRepository.forEachNotificationTarget(GameStatus.UPCOMING, releaseDate, run.getShard(), target -> {
+                RenderedNotification notification = rendered.computeIfAbsent(
+                        target.getGame().getId(), id -> render.apply(target.getGame()));
+                emailNotificationService.send(notification, target.getEmail(), target.getUnsubscribeToken());
+                lastGameId.set(target.getGame().getId());
+                shardSent.incrementAndGet();
+            });
+            if (lastGameId.get() != null) run.checkpoint(lastGameId.get(), shardSent.get());
+            sent.addAndGet(shardSent.get());
+        }));
+        return sent.get();
     }
 }
@@ -0,0 +1,41 @@
+package com.wulghash.gamereleasetracker.application.service;
+
+import com.wulghash.gamereleasetracker.domain.model.JobShard;
+import com.wulghash.gamereleasetracker.domain.port.out.JobLeaseRepository;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * One shard of a job run handed to the job's work. Work walks the shard's games in id order
+ * starting after {@link #getResumeAfter()} and calls {@link #checkpoint} as it finishes them, so a
+ * node taking the shard over after a crash carries on from the last checkpoint.
+ */
+public final class ShardRun {
+
+    private final JobLeaseRepository leases;
+    private final String jobName;
+    private final String nodeId;
+
+    @Getter
+    private final JobShard shard;
+    @Getter
+    private final UUID resumeAfter;
+    @Getter
+    private int processed;
+
+    ShardRun(JobLeaseRepository leases, String jobName, String nodeId, JobShard shard, UUID resumeAfter, int processed) {
+        this.leases = leases;
+        this.jobName = jobName;
+        this.nodeId = nodeId;
+        this.shard = shard;
+        this.resumeAfter = resumeAfter;
+        this.processed = processed;
+    }
+
+    /** Records that every game up to and including {@code lastId} is done, {@code count} of them since the last checkpoint. */
+    public void checkpoint(UUID lastId, int count) {
+        processed += count;
+        leases.saveCheckpoint(jobName, shard.getIndex(), nodeId, lastId, processed);
+    }
+}
@@ -0,0 +1,175 @@
+package com.wulghash.gamereleasetracker.application.service;
+
+import com.wulghash.gamereleasetracker.domain.model.JobCheckpoint;
+import com.wulghash.gamereleasetracker.domain.model.JobShard;
+import com.wulghash.gamereleasetracker.domain.port.out.JobLeaseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Runs scheduled jobs once across all app replicas. Each job is split into a fixed number of
+ * shards by game id; every node claims a fair share of them through {@link JobLeaseRepository}
+ * when the job fires, then picks up whatever is left, including shards of nodes that died
+ * mid-run once their lease expires. Such shards resume from their last checkpoint, and each run is
+ * recorded in {@code job_runs} so missed or unfinished runs can be caught up on.
+ */
+@Component
+@Slf4j
+public class ShardedJobRunner {
+
+    private final JobLeaseRepository leases;
+    private final String nodeId;
+    private final int shardCount;
+    private final Duration lease;
+    private final Duration heartbeatInterval;
+
+    // Shards this node holds, by job, so the heartbeat can keep their leases alive
+    private final Map<String, Set<Integer>> held = new ConcurrentHashMap<>();
+
+    // Not on the shared scheduler pool: jobs occupying all of its threads would delay renewals until
+    // leases expire and another node re-claims shards that are still being worked on
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "job-heartbeat");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ShardedJobRunner(JobLeaseRepository leases,
+                            @Value("${app.jobs.node-id:}") String nodeId,
+                            @Value("${app.jobs.shards:8}") int shardCount,
+                            @Value("${app.jobs.lease:PT10M}") Duration lease,
+                            @Value("${app.jobs.heartbeat-interval:PT30S}") Duration heartbeatInterval) {
+        this.leases = leases;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.shardCount = shardCount;
+        this.lease = lease;
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    @PostConstruct
+    void startHeartbeat() {
+        heartbeats.scheduleWithFixedDelay(() -> {
+            try {
+                heartbeat();
+            } catch (Exception e) {
+                log.warn("Job heartbeat failed, retrying in {}: {}", heartbeatInterval, e.getMessage());
+            }
+        }, 0, heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopHeartbeat() {
+        heartbeats.shutdownNow();
+    }
+
+    public void heartbeat() {
+        leases.heartbeat(nodeId);
+        held.forEach((jobName, shards) -> leases.renewLeases(jobName, List.copyOf(shards), nodeId, lease));
+    }
+
+    /**
+     * Runs {@code work} for every shard of the job this node manages to claim for {@code runKey}
+     * (typically the run's date) and returns how many shards it completed. A shard whose work
+     * throws stays unfinished and is retried by whichever node claims it after its lease expires.
+     */
+    public int run(String jobName, String runKey, Consumer<ShardRun> work) {
+        leases.heartbeat(nodeId);
+        leases.startRun(jobName, runKey);
+        // A node that missed two heartbeats is treated as gone
+        int liveNodes = Math.max(1, leases.countLiveNodes(heartbeatInterval.multipliedBy(3)));
+        int fairShare = (shardCount + liveNodes - 1) / liveNodes;
+
+        int completed = 0;
+        List<JobCheckpoint> claimed = leases.claimShards(jobName, runKey, shardCount, nodeId, fairShare, lease);
+        log.info("Job {} ({}): node {} claimed shard(s) {} of {} across {} live node(s)",
+                jobName, runKey, nodeId, claimed.stream().map(JobCheckpoint::getShard).toList(), shardCount, liveNodes);
+        while (!claimed.isEmpty() && !Thread.currentThread().isInterrupted()) {
+            List<Integer> shards = claimed.stream().map(JobCheckpoint::getShard).toList();
+            Set<Integer> holding = held.computeIfAbsent(jobName, name -> ConcurrentHashMap.newKeySet());
+            holding.addAll(shards);
+            try {
+                for (JobCheckpoint checkpoint : claimed) {
+                    if (runShard(jobName, checkpoint, work)) completed++;
+                    holding.remove(checkpoint.getShard());
+                }
+            } finally {
+                holding.removeAll(shards);
+            }
+            // Then help with shards nobody has finished: left over by slower or dead nodes
+            claimed = leases.claimShards(jobName, runKey, shardCount, nodeId, 1, lease);
+        }
+        leases.completeRunIfFinished(jobName, runKey, shardCount);
+        return completed;
+    }
+
+    /**
+     * Runs {@code work} on a single node per {@code runKey}: whichever claims the job's only shard.
+     * Returns false without running it when another node holds or has finished it. If {@code work}
+     * throws, the exception propagates and the job stays unfinished until its lease expires.
+     */
+    public boolean runOnce(String jobName, String runKey, Runnable work) {
+        leases.startRun(jobName, runKey);
+        if (leases.claimShards(jobName, runKey, 1, nodeId, 1, lease).isEmpty()) return false;
+
+        Set<Integer> holding = held.computeIfAbsent(jobName, name -> ConcurrentHashMap.newKeySet());
+        holding.add(0);
+        try {
+            work.run();
+        } finally {
+            holding.remove(0);
+        }
+        leases.completeShard(jobName, 0, nodeId);
+        leases.completeRunIfFinished(jobName, runKey, 1);
+        return true;
+    }
+
+    public boolean isCompleted(String jobName, String runKey) {
+        return leases.isRunCompleted(jobName, runKey);
+    }
+
+    private boolean runShard(String jobName, JobCheckpoint checkpoint, Consumer<ShardRun> work) {
+        if (Thread.currentThread().isInterrupted()) return false;
+        int shard = checkpoint.getShard();
+        if (checkpoint.getLastId() != null) {
+            log.info("Job {} shard {}/{}: resuming after {} ({} already processed)",
+                    jobName, shard, shardCount, checkpoint.getLastId(), checkpoint.getProcessed());
+        }
+        try {
+            work.accept(new ShardRun(leases, jobName, nodeId, JobShard.of(shard, shardCount),
+                    checkpoint.getLastId(), checkpoint.getProcessed()));
+            leases.completeShard(jobName, shard, nodeId);
+            return true;
+        } catch (Exception e) {
+            log.error("Job {} shard {}/{} failed, leaving it for a retry once its lease expires: {}",
+                    jobName, shard, shardCount, e.getMessage());
+            return false;
+        }
+    }
+
+    // Unique per process, so a restarted pod never mistakes its predecessor's leases for its own
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
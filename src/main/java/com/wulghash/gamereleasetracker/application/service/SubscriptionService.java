@@ -5,7 +5,7 @@ import com.wulghash.gamereleasetracker.domain.model.GameNotFoundException;
 import com.wulghash.gamereleasetracker.domain.model.Subscription;
 import com.wulghash.gamereleasetracker.domain.model.SubscriptionNotFoundException;
 import com.wulghash.gamereleasetracker.domain.port.in.SubscriptionUseCase;
-import com.wulghash.gamereleasetracker.domain.port.out.GameRepository;
+import com.wulghash.gamereleasetracker.domain.port.out.NotificationPreferenceRepository;
 import com.wulghash.gamereleasetracker.domain.port.out.SubscriptionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,18 +20,11 @@ import java.util.UUID;
 public class SubscriptionService implements SubscriptionUseCase {
 
     private final SubscriptionRepository subscriptionRepository;
-    private final GameRepository gameRepository;
+    private final NotificationPreferenceRepository notificationPreferenceRepository;
 
     @Override
     @Transactional
     public void subscribe(UUID gameId, String email) {
-        if (!gameRepository.existsByIdForAnyUser(gameId)) {
-            throw new GameNotFoundException(gameId);
-        }
-        if (subscriptionRepository.existsByGameIdAndEmail(gameId, email)) {
-            throw new GameAlreadySubscribedException(gameId, email);
-        }
-
         Subscription subscription = Subscription.builder()
                 .id(UUID.randomUUID())
                 .gameId(gameId)
@@ -40,15 +33,27 @@ public class SubscriptionService implements SubscriptionUseCase {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        subscriptionRepository.save(subscription);
+        switch (subscriptionRepository.insert(subscription)) {
+            case GAME_NOT_FOUND -> throw new GameNotFoundException(gameId);
+            case ALREADY_SUBSCRIBED -> throw new GameAlreadySubscribedException(gameId, email);
+            case INSERTED -> { }
+        }
     }
 
     @Override
     @Transactional
     public void unsubscribe(UUID unsubscribeToken) {
+        if (!subscriptionRepository.deleteByUnsubscribeToken(unsubscribeToken)) {
+            throw new SubscriptionNotFoundException(unsubscribeToken);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void setDigestMode(UUID unsubscribeToken, boolean enabled) {
         Subscription subscription = subscriptionRepository.findByUnsubscribeToken(unsubscribeToken)
                 .orElseThrow(() -> new SubscriptionNotFoundException(unsubscribeToken));
 
-        subscriptionRepository.deleteById(subscription.getId());
+        notificationPreferenceRepository.setDigestEnabled(subscription.getEmail(), enabled);
     }
 }
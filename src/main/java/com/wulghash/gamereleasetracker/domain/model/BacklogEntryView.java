@@ -0,0 +1,24 @@
+package com.wulghash.gamereleasetracker.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only row of a backlog list, selected straight from the database without loading a
+ * managed entity. Use {@link BacklogEntry} for anything that gets modified.
+ */
+public record BacklogEntryView(
+        UUID id,
+        UUID userId,
+        Long igdbId,
+        String name,
+        String coverUrl,
+        LocalDate releaseDate,
+        BacklogStatus backlogStatus,
+        Integer igdbScore,
+        Integer rating,
+        String notes,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
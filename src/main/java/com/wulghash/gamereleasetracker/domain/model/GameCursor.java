@@ -0,0 +1,24 @@
+package com.wulghash.gamereleasetracker.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** Position in a game list ordered by release date, then id: the last game of the previous page. */
+@Getter
+@Builder
+public class GameCursor {
+
+    private final LocalDate releaseDate;
+    private final UUID id;
+
+    public static GameCursor of(Game game) {
+        return new GameCursor(game.getReleaseDate(), game.getId());
+    }
+
+    public static GameCursor of(GameView game) {
+        return new GameCursor(game.releaseDate(), game.id());
+    }
+}
@@ -0,0 +1,7 @@
+package com.wulghash.gamereleasetracker.domain.model;
+
+public class GameLookupUnavailableException extends RuntimeException {
+    public GameLookupUnavailableException(String reason) {
+        super("Game lookup is temporarily unavailable: " + reason);
+    }
+}
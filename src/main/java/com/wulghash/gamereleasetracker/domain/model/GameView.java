@@ -0,0 +1,27 @@
+package com.wulghash.gamereleasetracker.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Read-only row of a game list: the listed columns, selected straight from the database
+ * without loading a managed entity. Use {@link Game} for anything that gets modified.
+ */
+public record GameView(
+        UUID id,
+        String title,
+        String description,
+        LocalDate releaseDate,
+        Set<Platform> platforms,
+        GameStatus status,
+        String shopUrl,
+        String imageUrl,
+        String developer,
+        String publisher,
+        Long igdbId,
+        boolean tba,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
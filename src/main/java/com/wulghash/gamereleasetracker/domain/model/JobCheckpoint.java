@@ -0,0 +1,16 @@
+package com.wulghash.gamereleasetracker.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/** A claimed shard and how far its current run got: the last game id finished (null if none) and the count so far. */
+@Getter
+@Builder
+public class JobCheckpoint {
+
+    private final int shard;
+    private final UUID lastId;
+    private final int processed;
+}
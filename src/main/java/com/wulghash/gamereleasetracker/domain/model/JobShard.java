@@ -0,0 +1,44 @@
+package com.wulghash.gamereleasetracker.domain.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * One slice of the game catalog for a job split across nodes: the games whose shard key is
+ * {@code index} modulo {@code count}. Every game belongs to exactly one shard of a job.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class JobShard {
+
+    /** Number of distinct shard keys; shard counts should divide it to keep shards even. */
+    public static final int KEY_SPACE = 1024;
+
+    private final int index;
+    private final int count;
+
+    private JobShard(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + count);
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    public static JobShard of(int index, int count) {
+        return new JobShard(index, count);
+    }
+
+    /** Stable shard key of a game, taken from the leading 32 bits of its random id. */
+    public static int keyOf(UUID gameId) {
+        return (int) ((gameId.getMostSignificantBits() >>> 32) % KEY_SPACE);
+    }
+
+    public boolean contains(UUID gameId) {
+        return keyOf(gameId) % count == index;
+    }
+}
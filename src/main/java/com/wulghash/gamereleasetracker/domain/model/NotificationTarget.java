@@ -0,0 +1,16 @@
+package com.wulghash.gamereleasetracker.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/** One e-mail to send about a game: the game plus a single subscriber's address and unsubscribe token. */
+@Getter
+@Builder
+public class NotificationTarget {
+
+    private final Game game;
+    private final String email;
+    private final UUID unsubscribeToken;
+}
@@ -1,17 +1,20 @@
 package com.wulghash.gamereleasetracker.domain.port.in;
 
 import com.wulghash.gamereleasetracker.domain.model.BacklogEntry;
+import com.wulghash.gamereleasetracker.domain.model.BacklogEntryView;
 import com.wulghash.gamereleasetracker.domain.model.BacklogStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.UUID;
 
 public interface BacklogUseCase {
 
     BacklogEntry add(UUID userId, BacklogAddCommand cmd);
 
-    List<BacklogEntry> list(UUID userId, BacklogStatus statusFilter);
+    Page<BacklogEntryView> list(UUID userId, BacklogStatus statusFilter, String namePrefix,
+                                LocalDate from, LocalDate to, Pageable pageable);
 
     BacklogEntry update(UUID entryId, UUID userId, BacklogUpdateCommand cmd);
 
@@ -1,10 +1,13 @@
 package com.wulghash.gamereleasetracker.domain.port.in;
 
 import com.wulghash.gamereleasetracker.domain.model.Game;
+import com.wulghash.gamereleasetracker.domain.model.GameCursor;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.GameView;
 import com.wulghash.gamereleasetracker.domain.model.Platform;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
 import java.util.Set;
@@ -16,7 +19,14 @@ public interface GameUseCase {
 
     Game getById(UUID id, UUID userId);
 
-    Page<Game> list(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to, Pageable pageable);
+    Page<GameView> list(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Up to {@code limit} games after {@code after} (from the start when null), ordered by release
+     * date then id. No total is counted, so deep pages cost the same as the first one.
+     */
+    Slice<GameView> listAfter(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to,
+                              GameCursor after, int limit);
 
     Game update(UUID id, UUID userId, GameCommand cmd);
 
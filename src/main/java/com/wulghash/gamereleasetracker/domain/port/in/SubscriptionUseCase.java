@@ -7,4 +7,7 @@ public interface SubscriptionUseCase {
     void subscribe(UUID gameId, String email);
 
     void unsubscribe(UUID unsubscribeToken);
+
+    /** Switches the subscription's e-mail address between one e-mail per event and a daily digest. */
+    void setDigestMode(UUID unsubscribeToken, boolean enabled);
 }
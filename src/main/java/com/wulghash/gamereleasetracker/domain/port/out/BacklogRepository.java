@@ -1,9 +1,12 @@
 package com.wulghash.gamereleasetracker.domain.port.out;
 
 import com.wulghash.gamereleasetracker.domain.model.BacklogEntry;
+import com.wulghash.gamereleasetracker.domain.model.BacklogEntryView;
 import com.wulghash.gamereleasetracker.domain.model.BacklogStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
-import java.util.List;
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,9 +16,19 @@ public interface BacklogRepository {
 
     Optional<BacklogEntry> findByIdAndUserId(UUID id, UUID userId);
 
-    List<BacklogEntry> findAllByUserId(UUID userId, BacklogStatus status);
-
-    void deleteByIdAndUserId(UUID id, UUID userId);
-
-    boolean existsByUserIdAndIgdbId(UUID userId, Long igdbId);
+    /**
+     * Page of a user's backlog as read-only list rows. Every filter is optional; {@code namePrefix}
+     * matches the start of the name ignoring case, {@code from}/{@code to} bound the release date.
+     */
+    Page<BacklogEntryView> findAll(UUID userId, BacklogStatus status, String namePrefix,
+                                   LocalDate from, LocalDate to, Pageable pageable);
+
+    /**
+     * Inserts a new entry in a single statement; false when the user already has this IGDB game,
+     * as decided by the unique (user_id, igdb_id) constraint.
+     */
+    boolean insert(BacklogEntry entry);
+
+    /** Deletes the user's entry in one statement; false when the user has no such entry. */
+    boolean deleteByIdAndUserId(UUID id, UUID userId);
 }
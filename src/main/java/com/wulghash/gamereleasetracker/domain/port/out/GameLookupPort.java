@@ -1,9 +1,32 @@
 package com.wulghash.gamereleasetracker.domain.port.out;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Map;
 
+/**
+ * Release data from the external game catalog. Lookups throw
+ * {@link com.wulghash.gamereleasetracker.domain.model.GameLookupUnavailableException}
+ * while the upstream is known to be down instead of waiting for it to time out.
+ */
 public interface GameLookupPort {
 
-    Optional<LocalDate> findReleaseDateByIgdbId(long igdbId);
+    /**
+     * Release dates of the given catalog ids, looked up in batches. Ids with no usable release
+     * date (unknown, early access, no first_release_date) are absent from the result. Upstream
+     * errors are thrown rather than returned as an empty result. The local copy of the catalog
+     * answers only if it has been refreshed as of {@code asOf}; otherwise the upstream does.
+     */
+    Map<Long, LocalDate> findReleaseDatesByIgdbIds(Collection<Long> igdbIds, LocalDate asOf);
+
+    /**
+     * Brings the local copy of the catalog up to date with upstream changes, if the adapter
+     * keeps one, and records it as current as of {@code asOf} once done. Lookups served from that
+     * copy avoid a network round trip per game. Throws if the upstream fails part-way; the copy is
+     * then not current as of any day until a later refresh succeeds.
+     */
+    void refreshLocalCatalog(LocalDate asOf);
+
+    /** False while the upstream is failing and calls would be rejected straight away. */
+    boolean isAvailable();
 }
@@ -1,10 +1,14 @@
 package com.wulghash.gamereleasetracker.domain.port.out;
 
 import com.wulghash.gamereleasetracker.domain.model.Game;
+import com.wulghash.gamereleasetracker.domain.model.GameCursor;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.GameView;
+import com.wulghash.gamereleasetracker.domain.model.JobShard;
 import com.wulghash.gamereleasetracker.domain.model.Platform;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -13,19 +17,33 @@ import java.util.UUID;
 
 public interface GameRepository {
 
+    /** Stores changes to an existing game. */
     Game save(Game game);
 
-    Optional<Game> findById(UUID id, UUID userId);
+    /** Stores a game that was just created, without first looking for an existing row. */
+    Game insert(Game game);
 
-    Page<Game> findAll(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to, Pageable pageable);
+    Optional<Game> findById(UUID id, UUID userId);
 
-    void deleteById(UUID id, UUID userId);
+    /** Page of a user's games as read-only list rows. */
+    Page<GameView> findAll(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to, Pageable pageable);
 
-    boolean existsById(UUID id, UUID userId);
+    /** Keyset page of a user's games ordered by release date then id, starting after {@code after}. */
+    Slice<GameView> findAfter(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to,
+                              GameCursor after, int limit);
 
-    List<Game> findAllByStatus(GameStatus status);
+    /** Deletes the user's game in one statement; false when the user has no such game. */
+    boolean deleteById(UUID id, UUID userId);
 
-    List<Game> findAllByStatusAndReleaseDate(GameStatus status, LocalDate releaseDate);
+    /**
+     * Keyset page of the shard's games with the given status, ordered by id. Pass the last id of
+     * the previous chunk as {@code afterId} (or null for the first chunk).
+     */
+    List<Game> findChunkByStatus(GameStatus status, JobShard shard, UUID afterId, int limit);
 
-    boolean existsByIdForAnyUser(UUID id);
+    /**
+     * Moves every dated UPCOMING game whose release date is before {@code date} to RELEASED
+     * in one statement and returns the ids of the games it changed.
+     */
+    List<UUID> releaseAllDueBefore(LocalDate date);
 }
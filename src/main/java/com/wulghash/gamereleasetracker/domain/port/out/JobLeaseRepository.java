@@ -0,0 +1,38 @@
+package com.wulghash.gamereleasetracker.domain.port.out;
+
+import com.wulghash.gamereleasetracker.domain.model.JobCheckpoint;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/** Database-backed leases that split a scheduled job's shards between the running app nodes. */
+public interface JobLeaseRepository {
+
+    void heartbeat(String nodeId);
+
+    /** Nodes whose last heartbeat is within {@code window}. */
+    int countLiveNodes(Duration window);
+
+    /**
+     * Claims up to {@code max} shards of the job that are not finished for {@code runKey} and not
+     * leased by another node. Shards are created on first use. A shard taken over mid-run keeps
+     * its checkpoint, so the new owner can resume where the previous one stopped.
+     */
+    List<JobCheckpoint> claimShards(String jobName, String runKey, int shardCount, String nodeId, int max, Duration lease);
+
+    void renewLeases(String jobName, Collection<Integer> shards, String nodeId, Duration lease);
+
+    /** Records that the shard's games up to and including {@code lastId} are done, {@code processed} in total. */
+    void saveCheckpoint(String jobName, int shard, String nodeId, UUID lastId, int processed);
+
+    void completeShard(String jobName, int shard, String nodeId);
+
+    void startRun(String jobName, String runKey);
+
+    /** Marks the run completed if every shard has finished it. */
+    void completeRunIfFinished(String jobName, String runKey, int shardCount);
+
+    boolean isRunCompleted(String jobName, String runKey);
+}
@@ -0,0 +1,6 @@
+package com.wulghash.gamereleasetracker.domain.port.out;
+
+public interface NotificationPreferenceRepository {
+
+    void setDigestEnabled(String email, boolean enabled);
+}
@@ -1,20 +1,39 @@
 package com.wulghash.gamereleasetracker.domain.port.out;
 
+import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.JobShard;
+import com.wulghash.gamereleasetracker.domain.model.NotificationTarget;
 import com.wulghash.gamereleasetracker.domain.model.Subscription;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface SubscriptionRepository {
 
-    Subscription save(Subscription subscription);
-
-    boolean existsByGameIdAndEmail(UUID gameId, String email);
-
     Optional<Subscription> findByUnsubscribeToken(UUID token);
 
     void deleteById(UUID id);
 
+    /**
+     * Subscribes the address in a single statement. The unique (game_id, email) constraint, not a
+     * prior lookup, decides whether it is a duplicate, so concurrent requests cannot both insert.
+     */
+    SubscribeOutcome insert(Subscription subscription);
+
+    /** Deletes the subscription with this token; false when there was none. */
+    boolean deleteByUnsubscribeToken(UUID token);
+
     List<Subscription> findAllByGameId(UUID gameId);
+
+    /**
+     * Streams one target per (game, subscriber) pair for the shard's games with the given status
+     * and release date, read with a single joined query. Targets of the same game arrive consecutively.
+     */
+    void forEachNotificationTarget(GameStatus status, LocalDate releaseDate, JobShard shard,
+                                   Consumer<NotificationTarget> action);
+
+    enum SubscribeOutcome { INSERTED, ALREADY_SUBSCRIBED, GAME_NOT_FOUND }
 }
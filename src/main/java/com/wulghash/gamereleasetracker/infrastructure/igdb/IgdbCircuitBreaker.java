@@ -0,0 +1,114 @@
+package com.wulghash.gamereleasetracker.infrastructure.igdb;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Stops sending traffic to IGDB after repeated upstream failures.
+ *
+ * CLOSED lets everything through and counts consecutive failures. Once the threshold is reached
+ * the breaker is OPEN and rejects calls for {@code open-duration}. After that a single probe is
+ * let through (HALF_OPEN): success closes the breaker, failure opens it again.
+ */
+@Component
+public class IgdbCircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(IgdbCircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private final Clock clock;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Counter rejected;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedAt = Instant.EPOCH;
+    private boolean probeInFlight;
+
+    @Autowired
+    public IgdbCircuitBreaker(MeterRegistry meterRegistry,
+                              @Value("${app.igdb.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                              @Value("${app.igdb.circuit-breaker.open-duration:PT30S}") Duration openDuration) {
+        this(meterRegistry, failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    IgdbCircuitBreaker(MeterRegistry meterRegistry, int failureThreshold, Duration openDuration, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+        Gauge.builder("igdb.circuit.state", this, b -> b.state().ordinal())
+                .description("IGDB circuit breaker state: 0 closed, 1 half-open, 2 open")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("igdb.circuit.rejected")
+                .description("IGDB calls rejected without contacting the upstream")
+                .register(meterRegistry);
+    }
+
+    /** Returns whether a call may go upstream now; callers that get {@code true} must report the outcome. */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            state = State.HALF_OPEN;
+            log.info("IGDB circuit half-open, sending a probe request");
+        }
+        boolean permitted = switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight) yield false;
+                probeInFlight = true;
+                yield true;
+            }
+        };
+        if (!permitted) rejected.increment();
+        return permitted;
+    }
+
+    /** Whether a call made now would be let through, without claiming the half-open probe. */
+    public synchronized boolean isCallPermitted() {
+        return state != State.OPEN || !clock.instant().isBefore(openedAt.plus(openDuration));
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) log.info("IGDB circuit closed");
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("IGDB circuit opened after {} consecutive failure(s)", consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = clock.instant();
+        }
+        probeInFlight = false;
+    }
+
+    /** Gives back a permission whose call never reached the upstream (e.g. rejected locally). */
+    public synchronized void release() {
+        probeInFlight = false;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
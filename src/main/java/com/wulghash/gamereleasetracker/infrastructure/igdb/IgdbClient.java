@@ -2,24 +2,34 @@ package com.wulghash.gamereleasetracker.infrastructure.igdb;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.wulghash.gamereleasetracker.domain.model.GameLookupUnavailableException;
 import com.wulghash.gamereleasetracker.domain.model.Platform;
 import com.wulghash.gamereleasetracker.domain.port.out.GameLookupPort;
+import com.wulghash.gamereleasetracker.infrastructure.igdb.IgdbMirrorStore.MirroredGame;
+import com.wulghash.gamereleasetracker.infrastructure.igdb.IgdbRequestScheduler.Priority;
 import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameLookupDetail;
 import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameLookupResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Component
@@ -27,6 +37,11 @@ public class IgdbClient implements GameLookupPort {
 
     private static final Logger log = LoggerFactory.getLogger(IgdbClient.class);
     private static final String BASE_URL = "https://api.igdb.com/v4";
+    private static final int MAX_IDS_PER_QUERY = 500;
+    private static final int MIRROR_PAGE_SIZE = 500;
+    private static final String MIRROR_FIELDS = "name,first_release_date,cover.url,platforms.id," +
+            "involved_companies.company.name,involved_companies.developer,involved_companies.publisher," +
+            "summary,status,aggregated_rating,updated_at";
 
     // Map IGDB platform IDs to our Platform enum
     private static final Map<Integer, Platform> PLATFORM_MAP = Map.of(
@@ -40,13 +55,27 @@ public class IgdbClient implements GameLookupPort {
 
     private final RestClient restClient;
     private final IgdbTokenService tokenService;
+    private final IgdbRequestScheduler requestScheduler;
+    private final IgdbCircuitBreaker circuitBreaker;
+    private final IgdbMirrorStore mirror;
+    private final boolean mirrorEnabled;
     private final String clientId;
+    private final SingleFlight<String, List<IgdbGame>> singleFlight = new SingleFlight<>();
 
-    public IgdbClient(IgdbTokenService tokenService,
+    public IgdbClient(@Qualifier("igdbRestClient") RestClient restClient,
+                      IgdbTokenService tokenService,
+                      IgdbRequestScheduler requestScheduler,
+                      IgdbCircuitBreaker circuitBreaker,
+                      IgdbMirrorStore mirror,
+                      @Value("${app.igdb.mirror.enabled:true}") boolean mirrorEnabled,
                       @Value("${app.igdb.client-id:}") String clientId) {
+        this.restClient = restClient;
         this.tokenService = tokenService;
+        this.requestScheduler = requestScheduler;
+        this.circuitBreaker = circuitBreaker;
+        this.mirror = mirror;
+        this.mirrorEnabled = mirrorEnabled;
         this.clientId = clientId;
-        this.restClient = RestClient.create();
     }
 
     public List<GameLookupResult> search(String query) {
@@ -60,7 +89,7 @@ public class IgdbClient implements GameLookupPort {
                 "where status = null | status != (4,5,6,7,8); limit 10;",
                 query.replace("\"", "\\\""));
 
-        List<IgdbGame> games = callApi("/games", apicalypse);
+        List<IgdbGame> games = callApi("/games", apicalypse, Priority.INTERACTIVE);
         return games.stream()
                 .map(g -> new GameLookupResult(
                         g.id(),
@@ -73,6 +102,12 @@ public class IgdbClient implements GameLookupPort {
     }
 
     public GameLookupDetail getDetail(long igdbId) {
+        // Any finished pull is recent enough for a detail view, but not a copy mid-pull or left by a failed one
+        if (mirrorEnabled && mirror.currentAsOf().isPresent()) {
+            Optional<MirroredGame> mirrored = mirror.findById(igdbId);
+            if (mirrored.isPresent()) return toDetail(mirrored.get());
+        }
+
         if (!tokenService.isConfigured()) {
             log.warn("IGDB not configured, skipping detail fetch");
             return null;
@@ -84,74 +119,210 @@ public class IgdbClient implements GameLookupPort {
                 "summary,aggregated_rating; where id = %d; limit 1;",
                 igdbId);
 
-        List<IgdbGame> games = callApi("/games", apicalypse);
+        List<IgdbGame> games = callApi("/games", apicalypse, Priority.INTERACTIVE);
         if (games.isEmpty()) return null;
 
         IgdbGame g = games.get(0);
-
-        String developer = g.involvedCompanies() == null ? null :
-                g.involvedCompanies().stream()
-                        .filter(IgdbInvolvedCompany::developer)
-                        .map(c -> c.company() != null ? c.company().name() : null)
-                        .filter(Objects::nonNull)
-                        .findFirst().orElse(null);
-
-        String publisher = g.involvedCompanies() == null ? null :
-                g.involvedCompanies().stream()
-                        .filter(IgdbInvolvedCompany::publisher)
-                        .map(c -> c.company() != null ? c.company().name() : null)
-                        .filter(Objects::nonNull)
-                        .findFirst().orElse(null);
-
         return new GameLookupDetail(
                 g.name(),
                 g.firstReleaseDateAsString(),
                 g.coverUrl(),
                 mapPlatforms(g.platforms()),
                 g.summary(),
-                developer,
-                publisher,
+                g.companyName(IgdbInvolvedCompany::developer),
+                g.companyName(IgdbInvolvedCompany::publisher),
                 roundScore(g.aggregatedRating()));
     }
 
     @Override
-    public Optional<LocalDate> findReleaseDateByIgdbId(long igdbId) {
-        String apicalypse = String.format(
-                "fields first_release_date,status; where id = %d; limit 1;", igdbId);
+    public Map<Long, LocalDate> findReleaseDatesByIgdbIds(Collection<Long> igdbIds, LocalDate asOf) {
+        List<Long> ids = igdbIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, LocalDate> dates = new HashMap<>();
 
-        List<IgdbGame> games = callApi("/games", apicalypse);
-        if (games.isEmpty()) return Optional.empty();
+        List<Long> missing = ids;
+        if (mirrorEnabled && isMirrorCurrentAsOf(asOf)) {
+            Map<Long, MirroredGame> mirrored = mirror.findAllByIds(ids);
+            mirrored.values().forEach(m -> releaseDateOf(m.igdbId(), m.status(), m.firstReleaseDate())
+                    .ifPresent(date -> dates.put(m.igdbId(), date)));
+            missing = ids.stream().filter(id -> !mirrored.containsKey(id)).toList();
+        }
 
-        IgdbGame g = games.get(0);
-        if (Integer.valueOf(4).equals(g.status())) {
+        // One request per chunk instead of one per game; IGDB caps a page at 500 rows.
+        for (int from = 0; from < missing.size(); from += MAX_IDS_PER_QUERY) {
+            List<Long> chunk = missing.subList(from, Math.min(from + MAX_IDS_PER_QUERY, missing.size()));
+            String apicalypse = String.format(
+                    "fields first_release_date,status; where id = (%s); limit %d;",
+                    chunk.stream().map(String::valueOf).collect(Collectors.joining(",")),
+                    chunk.size());
+
+            for (IgdbGame g : fetch("/games", apicalypse, Priority.BACKGROUND)) {
+                releaseDateOf(g.id(), g.status(), g.firstReleaseDate()).ifPresent(date -> dates.put(g.id(), date));
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * Pulls every game IGDB changed since the stored high-water mark into {@code igdb_games}.
+     * Pages are walked in {@code updated_at} order and the mark is saved with each page, so an
+     * interrupted pull resumes where it stopped; the first run imports the whole catalog. The copy
+     * is recorded as current as of {@code asOf} only once the last page is in: while the pull runs,
+     * or after a page failed and the pull threw, date lookups on every node go live instead.
+     */
+    @Override
+    public void refreshLocalCatalog(LocalDate asOf) {
+        if (!mirrorEnabled || !tokenService.isConfigured()) return;
+
+        long cursor = mirror.highWaterMark();
+        int pages = 0;
+        int rows = 0;
+        mirror.markPullStarted();
+        while (true) {
+            String apicalypse = String.format(
+                    "fields %s; where updated_at > %d; sort updated_at asc; limit %d;",
+                    MIRROR_FIELDS, cursor, MIRROR_PAGE_SIZE);
+            List<IgdbGame> page = fetch("/games", apicalypse, Priority.BACKGROUND);
+            if (page.isEmpty()) break;
+
+            cursor = nextCursor(page, cursor);
+            mirror.savePage(page.stream().map(this::toMirrored).toList(), cursor);
+            pages++;
+            rows += page.size();
+
+            if (page.size() < MIRROR_PAGE_SIZE) break;
+        }
+        mirror.markCurrentAsOf(asOf);
+        log.info("IGDB mirror refreshed: {} row(s) in {} page(s), high-water mark {}", rows, pages, cursor);
+    }
+
+    // Rows sharing the page's last updated_at may continue on the next page, so resume just
+    // below it and let the upsert absorb the overlap.
+    private static long nextCursor(List<IgdbGame> page, long current) {
+        long last = page.get(page.size() - 1).updatedAtOrZero();
+        if (page.size() < MIRROR_PAGE_SIZE) return Math.max(current, last);
+
+        return page.stream()
+                .mapToLong(IgdbGame::updatedAtOrZero)
+                .filter(t -> t < last)
+                .max()
+                .orElseGet(() -> {
+                    log.warn("A full page of IGDB rows shares updated_at={}, some may be skipped until they change again",
+                            last);
+                    return last;
+                });
+    }
+
+    private boolean isMirrorCurrentAsOf(LocalDate day) {
+        return mirror.currentAsOf().filter(current -> !current.isBefore(day)).isPresent();
+    }
+
+    private Optional<LocalDate> releaseDateOf(long igdbId, Integer status, LocalDate releaseDate) {
+        if (Integer.valueOf(4).equals(status)) {
             log.debug("Skipping date sync for igdbId={}: game is still in Early Access", igdbId);
             return Optional.empty();
         }
+        return Optional.ofNullable(releaseDate);
+    }
+
+    private MirroredGame toMirrored(IgdbGame g) {
+        return new MirroredGame(
+                g.id(),
+                g.name() != null ? g.name() : "",
+                g.firstReleaseDate(),
+                g.status(),
+                g.coverUrl(),
+                mapPlatforms(g.platforms()),
+                g.summary(),
+                g.companyName(IgdbInvolvedCompany::developer),
+                g.companyName(IgdbInvolvedCompany::publisher),
+                roundScore(g.aggregatedRating()),
+                g.updatedAtOrZero());
+    }
+
+    private static GameLookupDetail toDetail(MirroredGame m) {
+        return new GameLookupDetail(
+                m.name(),
+                m.firstReleaseDate() != null ? m.firstReleaseDate().format(DateTimeFormatter.ISO_LOCAL_DATE) : null,
+                m.coverUrl(),
+                m.platforms(),
+                m.summary(),
+                m.developer(),
+                m.publisher(),
+                m.igdbScore());
+    }
 
-        String dateStr = g.firstReleaseDateAsString();
-        if (dateStr == null) return Optional.empty();
-        return Optional.of(LocalDate.parse(dateStr));
+    @Override
+    public boolean isAvailable() {
+        return tokenService.isConfigured() && circuitBreaker.isCallPermitted();
     }
 
-    private List<IgdbGame> callApi(String path, String body) {
+    // Lookups treat a failed call as "nothing found"; only an open circuit is reported to the caller
+    private List<IgdbGame> callApi(String path, String body, Priority priority) {
         try {
-            String token = tokenService.getToken();
-            log.debug("IGDB query: {}", body);
-            List<IgdbGame> result = restClient.post()
-                    .uri(BASE_URL + path)
-                    .header("Client-ID", clientId)
-                    .header("Authorization", "Bearer " + token)
-                    .contentType(MediaType.TEXT_PLAIN)
-                    .body(body)
-                    .retrieve()
-                    .body(new ParameterizedTypeReference<>() {});
-            return result != null ? result : List.of();
-        } catch (Exception e) {
+            return fetch(path, body, priority);
+        } catch (GameLookupUnavailableException e) {
+            throw e;
+        } catch (RuntimeException e) {
             log.error("IGDB API error on {}: {}", path, e.getMessage());
             return List.of();
         }
     }
 
+    private List<IgdbGame> fetch(String path, String body, Priority priority) {
+        try {
+            // Identical concurrent queries (same path and Apicalypse body) share one upstream request
+            return singleFlight.execute(path + '\n' + body, () -> guardedCall(path, body, priority)).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            throw new IllegalStateException("IGDB call to " + path + " failed", cause);
+        }
+    }
+
+    private CompletableFuture<List<IgdbGame>> guardedCall(String path, String body, Priority priority) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.failedFuture(new GameLookupUnavailableException("IGDB circuit is open"));
+        }
+        return requestScheduler.submit(priority, () -> post(path, body))
+                .whenComplete((result, error) -> {
+                    if (error == null) circuitBreaker.onSuccess();
+                    else if (error instanceof GameLookupUnavailableException) circuitBreaker.release();
+                    else if (isUpstreamFailure(error)) circuitBreaker.onFailure();
+                    else circuitBreaker.onSuccess(); // IGDB answered; the request itself was bad
+                });
+    }
+
+    // Timeouts, 5xx, 429 and token endpoint failures mean IGDB is unhealthy; other 4xx are our own bugs
+    private static boolean isUpstreamFailure(Throwable error) {
+        if (error instanceof HttpClientErrorException clientError) {
+            return clientError.getStatusCode().value() == 429;
+        }
+        return true;
+    }
+
+    private List<IgdbGame> post(String path, String body) {
+        String token = tokenService.getToken();
+        log.debug("IGDB query: {}", body);
+        try {
+            return post(path, body, token);
+        } catch (HttpClientErrorException.Unauthorized e) {
+            // Token was revoked or expired early — refresh once and retry
+            return post(path, body, tokenService.refreshAfterRejection(token));
+        }
+    }
+
+    private List<IgdbGame> post(String path, String body, String token) {
+        List<IgdbGame> result = restClient.post()
+                .uri(BASE_URL + path)
+                .header("Client-ID", clientId)
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(body)
+                .retrieve()
+                .body(new ParameterizedTypeReference<>() {});
+        return result != null ? result : List.of();
+    }
+
     private List<Platform> mapPlatforms(List<IgdbPlatform> platforms) {
         if (platforms == null) return List.of();
         return platforms.stream()
@@ -177,12 +348,30 @@ public class IgdbClient implements GameLookupPort {
             @JsonProperty("involved_companies") List<IgdbInvolvedCompany> involvedCompanies,
             String summary,
             Integer status,
-            @JsonProperty("aggregated_rating") Double aggregatedRating
+            @JsonProperty("aggregated_rating") Double aggregatedRating,
+            @JsonProperty("updated_at") Long updatedAt
     ) {
-        String firstReleaseDateAsString() {
+        LocalDate firstReleaseDate() {
             if (firstReleaseDateEpoch == null) return null;
-            return LocalDate.ofEpochDay(firstReleaseDateEpoch / 86400)
-                    .format(DateTimeFormatter.ISO_LOCAL_DATE);
+            return LocalDate.ofEpochDay(firstReleaseDateEpoch / 86400);
+        }
+
+        String firstReleaseDateAsString() {
+            LocalDate date = firstReleaseDate();
+            return date != null ? date.format(DateTimeFormatter.ISO_LOCAL_DATE) : null;
+        }
+
+        long updatedAtOrZero() {
+            return updatedAt != null ? updatedAt : 0;
+        }
+
+        String companyName(Predicate<IgdbInvolvedCompany> role) {
+            if (involvedCompanies == null) return null;
+            return involvedCompanies.stream()
+                    .filter(role)
+                    .map(c -> c.company() != null ? c.company().name() : null)
+                    .filter(Objects::nonNull)
+                    .findFirst().orElse(null);
         }
 
         String coverUrl() {
@@ -0,0 +1,82 @@
+package com.wulghash.gamereleasetracker.infrastructure.igdb;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+/**
+ * HTTP transport shared by {@link IgdbClient} and {@link IgdbTokenService}.
+ *
+ * A small pool of keep-alive connections sized to the IGDB concurrency limit, gzip/deflate
+ * negotiated by the client, and hard limits on connect, pool-acquire and response time so a
+ * stalled upstream cannot pin request threads. Pool usage is published as
+ * {@code httpcomponents.httpclient.pool.*} with {@code httpclient=igdb}.
+ */
+@Configuration
+class IgdbHttpConfig {
+
+    @Bean(destroyMethod = "close")
+    PoolingHttpClientConnectionManager igdbConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${app.igdb.http.max-connections:8}") int maxConnections,
+            @Value("${app.igdb.http.connect-timeout:PT2S}") Duration connectTimeout,
+            @Value("${app.igdb.http.read-timeout:PT5S}") Duration readTimeout,
+            @Value("${app.igdb.http.connection-ttl:PT5M}") Duration connectionTtl) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                // Per route for api.igdb.com, plus headroom so a token refresh never waits on the pool
+                .setMaxConnTotal(maxConnections + 2)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTtl))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "igdb").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    CloseableHttpClient igdbHttpClient(
+            @Qualifier("igdbConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+            @Value("${app.igdb.http.read-timeout:PT5S}") Duration readTimeout,
+            @Value("${app.igdb.http.pool-acquire-timeout:PT2S}") Duration acquireTimeout,
+            @Value("${app.igdb.http.keep-alive:PT30S}") Duration keepAlive) {
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(acquireTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                // IGDB does not always send Keep-Alive hints; reuse sockets for a bounded time
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .evictExpiredConnections()
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    @Bean
+    RestClient igdbRestClient(RestClient.Builder builder,
+                              @Qualifier("igdbHttpClient") CloseableHttpClient httpClient) {
+        return builder
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.wulghash.gamereleasetracker.infrastructure.igdb;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameLookupDetail;
+import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameLookupResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Read-through cache for the interactive IGDB lookup endpoints.
+ *
+ * Caffeine gives us size-bounded W-TinyLFU eviction, and {@link Cache#get} runs the loader at most
+ * once per key, so concurrent identical lookups wait on the same upstream call. Empty results and
+ * missing details are not cached — IgdbClient reports upstream failures as empty.
+ */
+@Component
+public class IgdbLookupCache {
+
+    private final IgdbClient igdbClient;
+    private final Cache<String, List<GameLookupResult>> searchCache;
+    private final Cache<Long, GameLookupDetail> detailCache;
+
+    public IgdbLookupCache(IgdbClient igdbClient,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.igdb.cache.max-size:10000}") long maxSize,
+                           @Value("${app.igdb.cache.search-ttl:PT10M}") Duration searchTtl,
+                           @Value("${app.igdb.cache.detail-ttl:PT1H}") Duration detailTtl) {
+        this.igdbClient = igdbClient;
+        this.searchCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(searchTtl)
+                .recordStats()
+                .build();
+        this.detailCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(detailTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, searchCache, "igdb.lookup.search");
+        CaffeineCacheMetrics.monitor(meterRegistry, detailCache, "igdb.lookup.detail");
+    }
+
+    public List<GameLookupResult> search(String query) {
+        String key = normalize(query);
+        if (key.isEmpty()) return List.of();
+
+        List<GameLookupResult> results = searchCache.get(key, k -> {
+            List<GameLookupResult> found = igdbClient.search(k);
+            return found.isEmpty() ? null : found;
+        });
+        return results != null ? results : List.of();
+    }
+
+    public GameLookupDetail getDetail(long igdbId) {
+        return detailCache.get(igdbId, igdbClient::getDetail);
+    }
+
+    // "  Elden   RING " and "elden ring" are the same IGDB search
+    static String normalize(String query) {
+        return query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
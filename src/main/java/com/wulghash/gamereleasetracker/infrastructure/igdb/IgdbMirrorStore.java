@@ -0,0 +1,163 @@
+package com.wulghash.gamereleasetracker.infrastructure.igdb;
+
+import com.wulghash.gamereleasetracker.domain.model.Platform;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Postgres-backed copy of the IGDB game catalog ({@code igdb_games}) plus the delta-sync
+ * high-water mark and the day the copy is current as of ({@code igdb_sync_state}). Private to the IGDB adapter, so it talks JDBC
+ * directly: pages are upserted with one batched {@code INSERT ... ON CONFLICT} each.
+ */
+@Repository
+@RequiredArgsConstructor
+class IgdbMirrorStore {
+
+    private static final String SYNC_STATE_NAME = "games";
+
+    private static final String UPSERT = """
+            INSERT INTO igdb_games (igdb_id, name, first_release_date, status, cover_url, platforms,
+                                    summary, developer, publisher, igdb_score, igdb_updated_at, synced_at)
+            VALUES (:igdbId, :name, :firstReleaseDate, :status, :coverUrl, :platforms,
+                    :summary, :developer, :publisher, :igdbScore, :igdbUpdatedAt, now())
+            ON CONFLICT (igdb_id) DO UPDATE SET
+                name = EXCLUDED.name,
+                first_release_date = EXCLUDED.first_release_date,
+                status = EXCLUDED.status,
+                cover_url = EXCLUDED.cover_url,
+                platforms = EXCLUDED.platforms,
+                summary = EXCLUDED.summary,
+                developer = EXCLUDED.developer,
+                publisher = EXCLUDED.publisher,
+                igdb_score = EXCLUDED.igdb_score,
+                igdb_updated_at = EXCLUDED.igdb_updated_at,
+                synced_at = now()
+            """;
+
+    private static final String SELECT = """
+            SELECT igdb_id, name, first_release_date, status, cover_url, platforms,
+                   summary, developer, publisher, igdb_score, igdb_updated_at
+            FROM igdb_games
+            """;
+
+    private static final RowMapper<MirroredGame> ROW_MAPPER = (rs, rowNum) -> {
+        Date releaseDate = rs.getDate("first_release_date");
+        return new MirroredGame(
+                rs.getLong("igdb_id"),
+                rs.getString("name"),
+                releaseDate != null ? releaseDate.toLocalDate() : null,
+                rs.getObject("status", Integer.class),
+                rs.getString("cover_url"),
+                parsePlatforms(rs.getString("platforms")),
+                rs.getString("summary"),
+                rs.getString("developer"),
+                rs.getString("publisher"),
+                rs.getObject("igdb_score", Integer.class),
+                rs.getLong("igdb_updated_at"));
+    };
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    long highWaterMark() {
+        List<Long> marks = jdbc.queryForList(
+                "SELECT high_water_mark FROM igdb_sync_state WHERE name = :name",
+                Map.of("name", SYNC_STATE_NAME), Long.class);
+        return marks.isEmpty() ? 0 : marks.get(0);
+    }
+
+    /** Day of the last pull that finished; empty while a pull is running or after one failed. */
+    Optional<LocalDate> currentAsOf() {
+        List<Date> days = jdbc.queryForList(
+                "SELECT current_as_of FROM igdb_sync_state WHERE name = :name",
+                Map.of("name", SYNC_STATE_NAME), Date.class);
+        return days.stream().filter(Objects::nonNull).map(Date::toLocalDate).findFirst();
+    }
+
+    void markPullStarted() {
+        jdbc.update("""
+                INSERT INTO igdb_sync_state (name, high_water_mark, current_as_of, updated_at)
+                VALUES (:name, 0, NULL, now())
+                ON CONFLICT (name) DO UPDATE SET current_as_of = NULL, updated_at = now()
+                """, Map.of("name", SYNC_STATE_NAME));
+    }
+
+    void markCurrentAsOf(LocalDate day) {
+        jdbc.update("UPDATE igdb_sync_state SET current_as_of = :day, updated_at = now() WHERE name = :name",
+                Map.of("name", SYNC_STATE_NAME, "day", Date.valueOf(day)));
+    }
+
+    /** Stores one delta page and advances the high-water mark atomically, so a crash never skips rows. */
+    @Transactional
+    void savePage(List<MirroredGame> games, long newHighWaterMark) {
+        SqlParameterSource[] batch = games.stream()
+                .map(IgdbMirrorStore::toParams)
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate(UPSERT, batch);
+        jdbc.update("""
+                INSERT INTO igdb_sync_state (name, high_water_mark, updated_at)
+                VALUES (:name, :mark, now())
+                ON CONFLICT (name) DO UPDATE SET high_water_mark = EXCLUDED.high_water_mark, updated_at = now()
+                """, Map.of("name", SYNC_STATE_NAME, "mark", newHighWaterMark));
+    }
+
+    Optional<MirroredGame> findById(long igdbId) {
+        return jdbc.query(SELECT + " WHERE igdb_id = :id", Map.of("id", igdbId), ROW_MAPPER)
+                .stream().findFirst();
+    }
+
+    Map<Long, MirroredGame> findAllByIds(Collection<Long> igdbIds) {
+        if (igdbIds.isEmpty()) return Map.of();
+        return jdbc.query(SELECT + " WHERE igdb_id IN (:ids)", Map.of("ids", igdbIds), ROW_MAPPER).stream()
+                .collect(Collectors.toMap(MirroredGame::igdbId, Function.identity()));
+    }
+
+    private static SqlParameterSource toParams(MirroredGame g) {
+        return new MapSqlParameterSource()
+                .addValue("igdbId", g.igdbId())
+                .addValue("name", g.name())
+                .addValue("firstReleaseDate", g.firstReleaseDate() != null ? Date.valueOf(g.firstReleaseDate()) : null)
+                .addValue("status", g.status())
+                .addValue("coverUrl", g.coverUrl())
+                .addValue("platforms", g.platforms().stream().map(Enum::name).collect(Collectors.joining(",")))
+                .addValue("summary", g.summary())
+                .addValue("developer", g.developer())
+                .addValue("publisher", g.publisher())
+                .addValue("igdbScore", g.igdbScore())
+                .addValue("igdbUpdatedAt", g.igdbUpdatedAt());
+    }
+
+    private static List<Platform> parsePlatforms(String value) {
+        if (value == null || value.isBlank()) return List.of();
+        return Arrays.stream(value.split(",")).map(Platform::valueOf).toList();
+    }
+
+    record MirroredGame(
+            long igdbId,
+            String name,
+            LocalDate firstReleaseDate,
+            Integer status,
+            String coverUrl,
+            List<Platform> platforms,
+            String summary,
+            String developer,
+            String publisher,
+            Integer igdbScore,
+            long igdbUpdatedAt
+    ) {}
+}
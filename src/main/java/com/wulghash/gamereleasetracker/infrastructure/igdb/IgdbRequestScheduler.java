@@ -0,0 +1,210 @@
+package com.wulghash.gamereleasetracker.infrastructure.igdb;
+
+import com.wulghash.gamereleasetracker.domain.model.GameLookupUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Shared gate in front of every IGDB HTTP call.
+ *
+ * IGDB allows roughly 4 requests per second and 8 open requests per client. Callers submit work
+ * to a priority lane and get a {@link CompletableFuture} back; a single dispatcher thread hands
+ * queued requests to the worker pool only when both a rate-limit token and a concurrency slot are
+ * free. Interactive lookups are always dispatched before background sync traffic.
+ *
+ * The concurrency cap doubles as the IGDB bulkhead: at most {@code max-concurrent} threads are
+ * ever tied up in IGDB calls, and once {@code max-queued} requests are waiting, new ones fail fast
+ * with {@link GameLookupUnavailableException} instead of queueing behind a slow upstream.
+ */
+@Component
+public class IgdbRequestScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(IgdbRequestScheduler.class);
+
+    public enum Priority {
+        INTERACTIVE,
+        BACKGROUND
+    }
+
+    private final Map<Priority, Queue<PendingRequest<?>>> lanes = new EnumMap<>(Priority.class);
+    private final Map<Priority, AtomicInteger> queueDepths = new EnumMap<>(Priority.class);
+    private final Map<Priority, Timer> waitTimers = new EnumMap<>(Priority.class);
+
+    // Across all lanes; a slot is reserved here before the request is enqueued
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+
+    private final ScheduledExecutorService dispatcher;
+    private final ExecutorService workers;
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final double tokensPerNano;
+    private final double bucketCapacity;
+
+    // Token bucket state — only touched from the dispatcher thread
+    private double tokens;
+    private long lastRefillNanos;
+
+    public IgdbRequestScheduler(MeterRegistry meterRegistry,
+                                @Value("${app.igdb.rate-limit.requests-per-second:4}") double requestsPerSecond,
+                                @Value("${app.igdb.rate-limit.max-concurrent:8}") int maxConcurrent,
+                                @Value("${app.igdb.bulkhead.max-queued:200}") int maxQueued) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.tokensPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.bucketCapacity = Math.max(1, requestsPerSecond);
+        this.tokens = bucketCapacity;
+        this.lastRefillNanos = System.nanoTime();
+
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "igdb-dispatcher"));
+        AtomicInteger workerIds = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(maxConcurrent,
+                r -> daemon(r, "igdb-worker-" + workerIds.incrementAndGet()));
+
+        for (Priority priority : Priority.values()) {
+            String lane = priority.name().toLowerCase();
+            lanes.put(priority, new ConcurrentLinkedQueue<>());
+            queueDepths.put(priority, new AtomicInteger());
+            Gauge.builder("igdb.requests.queued", queueDepths.get(priority), AtomicInteger::get)
+                    .description("IGDB requests waiting for a rate-limit token or concurrency slot")
+                    .tag("lane", lane)
+                    .register(meterRegistry);
+            waitTimers.put(priority, Timer.builder("igdb.requests.wait")
+                    .description("Time an IGDB request spent queued before being dispatched")
+                    .tag("lane", lane)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("igdb.requests.in_flight", inFlight, AtomicInteger::get)
+                .description("IGDB requests currently executing")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Priority priority, Supplier<T> call) {
+        if (!reserveQueueSlot()) {
+            return CompletableFuture.failedFuture(
+                    new GameLookupUnavailableException("too many IGDB requests waiting"));
+        }
+        PendingRequest<T> request = new PendingRequest<>(priority, call, System.nanoTime());
+        lanes.get(priority).add(request);
+        queueDepths.get(priority).incrementAndGet();
+        dispatcher.execute(this::drain);
+        return request.result;
+    }
+
+    private void drain() {
+        while (inFlight.get() < maxConcurrent) {
+            PendingRequest<?> next = peekNext();
+            if (next == null) return;
+
+            refill();
+            if (tokens < 1) {
+                long waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+                scheduleWakeUp(waitNanos);
+                return;
+            }
+
+            tokens -= 1;
+            lanes.get(next.priority).poll();
+            queueDepths.get(next.priority).decrementAndGet();
+            queued.decrementAndGet();
+            inFlight.incrementAndGet();
+            dispatch(next);
+        }
+    }
+
+    private <T> void dispatch(PendingRequest<T> request) {
+        waitTimers.get(request.priority).record(System.nanoTime() - request.enqueuedAtNanos, TimeUnit.NANOSECONDS);
+        try {
+            workers.execute(() -> {
+                try {
+                    request.result.complete(request.call.get());
+                } catch (Throwable t) {
+                    request.result.completeExceptionally(t);
+                } finally {
+                    inFlight.decrementAndGet();
+                    dispatcher.execute(this::drain);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            request.result.completeExceptionally(e);
+        }
+    }
+
+    private boolean reserveQueueSlot() {
+        int current;
+        do {
+            current = queued.get();
+            if (current >= maxQueued) return false;
+        } while (!queued.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private PendingRequest<?> peekNext() {
+        for (Priority priority : Priority.values()) {
+            PendingRequest<?> head = lanes.get(priority).peek();
+            if (head != null) return head;
+        }
+        return null;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(bucketCapacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+
+    private void scheduleWakeUp(long delayNanos) {
+        if (wakeUpScheduled.compareAndSet(false, true)) {
+            dispatcher.schedule(() -> {
+                wakeUpScheduled.set(false);
+                drain();
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        workers.shutdownNow();
+        log.debug("IGDB request scheduler stopped");
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+
+    private record PendingRequest<T>(
+            Priority priority,
+            Supplier<T> call,
+            long enqueuedAtNanos,
+            CompletableFuture<T> result
+    ) {
+        PendingRequest(Priority priority, Supplier<T> call, long enqueuedAtNanos) {
+            this(priority, call, enqueuedAtNanos, new CompletableFuture<>());
+        }
+    }
+}
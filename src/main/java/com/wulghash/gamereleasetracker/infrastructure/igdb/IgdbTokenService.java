@@ -1,42 +1,106 @@
 package com.wulghash.gamereleasetracker.infrastructure.igdb;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Holds the Twitch app access token used for IGDB calls.
+ *
+ * Readers only do a volatile read of the current snapshot. A background task refreshes the token
+ * {@link #REFRESH_MARGIN} before it expires; a request only waits for a fetch when there is no
+ * usable token at all. All fetches — scheduled, on first use, or forced after a 401 — go through
+ * one single-flight so Twitch sees at most one token request at a time.
+ */
 @Service
 public class IgdbTokenService {
 
     private static final Logger log = LoggerFactory.getLogger(IgdbTokenService.class);
+    private static final Duration REFRESH_MARGIN = Duration.ofSeconds(300);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
 
     private final RestClient restClient;
     private final String clientId;
     private final String clientSecret;
 
-    private String cachedToken;
-    private Instant tokenExpiry = Instant.EPOCH;
+    private final AtomicReference<AccessToken> current = new AtomicReference<>();
+    private final SingleFlight<String, AccessToken> refreshFlight = new SingleFlight<>();
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "igdb-token-refresher");
+        t.setDaemon(true);
+        return t;
+    });
+    // Only touched from the refresher thread
+    private ScheduledFuture<?> nextRefresh;
 
     public IgdbTokenService(
+            @Qualifier("igdbRestClient") RestClient restClient,
             @Value("${app.igdb.client-id:}") String clientId,
             @Value("${app.igdb.client-secret:}") String clientSecret) {
+        this.restClient = restClient;
         this.clientId = clientId;
         this.clientSecret = clientSecret;
-        this.restClient = RestClient.create();
     }
 
     public boolean isConfigured() {
         return !clientId.isBlank() && !clientSecret.isBlank();
     }
 
-    public synchronized String getToken() {
-        if (cachedToken != null && Instant.now().isBefore(tokenExpiry.minusSeconds(300))) {
-            return cachedToken;
+    public String getToken() {
+        AccessToken token = current.get();
+        Instant now = Instant.now();
+        if (token != null && now.isBefore(token.expiresAt())) {
+            // The scheduled refresh should already have replaced it; if that failed, nudge it again
+            if (now.isAfter(token.expiresAt().minus(REFRESH_MARGIN))) {
+                refresh();
+            }
+            return token.value();
         }
+        return awaitRefresh().value();
+    }
+
+    /**
+     * Called when IGDB rejects {@code rejectedToken} with 401. Concurrent callers holding the same
+     * rejected token share a single refresh; callers whose token was already replaced just get the
+     * current one.
+     */
+    public String refreshAfterRejection(String rejectedToken) {
+        AccessToken token = current.get();
+        if (token != null && !token.value().equals(rejectedToken)) {
+            return token.value();
+        }
+        log.warn("IGDB rejected the access token, forcing a refresh");
+        return awaitRefresh().value();
+    }
+
+    private AccessToken awaitRefresh() {
+        try {
+            return refresh().join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("Failed to fetch IGDB token", e.getCause());
+        }
+    }
+
+    private CompletableFuture<AccessToken> refresh() {
+        return refreshFlight.execute("token", () -> CompletableFuture.supplyAsync(this::fetchToken, refresher));
+    }
+
+    private AccessToken fetchToken() {
         log.info("Fetching new IGDB access token");
         try {
             TokenResponse response = restClient.post()
@@ -45,16 +109,33 @@ public class IgdbTokenService {
                     .retrieve()
                     .body(TokenResponse.class);
             if (response == null) throw new RuntimeException("Empty token response");
-            cachedToken = response.accessToken();
-            tokenExpiry = Instant.now().plusSeconds(response.expiresIn());
+
+            AccessToken token = new AccessToken(response.accessToken(), Instant.now().plusSeconds(response.expiresIn()));
+            current.set(token);
+            scheduleRefresh(Duration.ofSeconds(response.expiresIn()).minus(REFRESH_MARGIN));
             log.info("IGDB token fetched, expires in {}s", response.expiresIn());
-            return cachedToken;
+            return token;
         } catch (Exception e) {
             log.error("Failed to fetch IGDB token: {}", e.getMessage());
-            throw new RuntimeException("Failed to fetch IGDB token", e);
+            if (current.get() != null) scheduleRefresh(RETRY_DELAY);
+            throw e;
         }
     }
 
+    private void scheduleRefresh(Duration delay) {
+        long delayMillis = Math.max(delay.toMillis(), RETRY_DELAY.toMillis());
+        ScheduledFuture<?> previous = nextRefresh;
+        if (previous != null) previous.cancel(false);
+        nextRefresh = refresher.schedule(this::refresh, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private record AccessToken(String value, Instant expiresAt) {}
+
     record TokenResponse(
             @JsonProperty("access_token") String accessToken,
             @JsonProperty("expires_in") long expiresIn
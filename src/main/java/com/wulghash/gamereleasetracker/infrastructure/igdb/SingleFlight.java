@@ -0,0 +1,42 @@
+package com.wulghash.gamereleasetracker.infrastructure.igdb;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls with the same key into one in-flight {@link CompletableFuture}.
+ *
+ * The first caller for a key starts the call; everyone arriving before it completes gets the same
+ * future. The entry is dropped on completion, so nothing is cached beyond the flight itself.
+ */
+class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> existing = inFlight.get(key);
+        if (existing != null) return existing;
+
+        CompletableFuture<V> placeholder = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(key, placeholder);
+        if (existing != null) return existing;
+
+        try {
+            call.get().whenComplete((value, error) -> {
+                inFlight.remove(key, placeholder);
+                if (error != null) placeholder.completeExceptionally(error);
+                else placeholder.complete(value);
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, placeholder);
+            placeholder.completeExceptionally(e);
+        }
+        return placeholder;
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+}
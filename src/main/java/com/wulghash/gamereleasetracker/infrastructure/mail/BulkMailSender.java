@@ -0,0 +1,100 @@
+package com.wulghash.gamereleasetracker.infrastructure.mail;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends many e-mails over a few reused SMTP connections. Messages are split across up to
+ * {@code sessions} parallel batches; each batch goes through one {@link JavaMailSender#send(SimpleMailMessage...)}
+ * call, which opens a single transport (connect, TLS, AUTH) and pushes every message in the batch
+ * through it.
+ */
+@Component
+@Slf4j
+class BulkMailSender {
+
+    private final JavaMailSender mailSender;
+    private final int sessions;
+    private final int maxPerSession;
+    private final ExecutorService pool;
+
+    BulkMailSender(@Autowired(required = false) JavaMailSender mailSender,
+                   @Value("${app.mail.smtp.sessions:4}") int sessions,
+                   @Value("${app.mail.smtp.max-messages-per-session:50}") int maxPerSession) {
+        this.mailSender = mailSender;
+        this.sessions = sessions;
+        this.maxPerSession = maxPerSession;
+        AtomicInteger ids = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(sessions, r -> {
+            Thread t = new Thread(r, "smtp-session-" + ids.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    boolean isConfigured() {
+        return mailSender != null;
+    }
+
+    /**
+     * Sends all messages and returns the ones that failed, keyed by the message instance passed in.
+     * Anything not in the result was accepted by the SMTP server.
+     */
+    Map<SimpleMailMessage, Exception> sendAll(List<SimpleMailMessage> messages) {
+        List<CompletableFuture<Map<SimpleMailMessage, Exception>>> batches = partition(messages).stream()
+                .map(batch -> CompletableFuture.supplyAsync(() -> sendOverOneConnection(batch), pool))
+                .toList();
+
+        Map<SimpleMailMessage, Exception> failed = new IdentityHashMap<>();
+        batches.forEach(batch -> failed.putAll(batch.join()));
+        return failed;
+    }
+
+    private Map<SimpleMailMessage, Exception> sendOverOneConnection(List<SimpleMailMessage> batch) {
+        Map<SimpleMailMessage, Exception> failed = new IdentityHashMap<>();
+        try {
+            mailSender.send(batch.toArray(SimpleMailMessage[]::new));
+        } catch (MailSendException e) {
+            // Per-message failures; a failed connect reports every message in the batch
+            e.getFailedMessages().forEach((message, error) -> {
+                if (message instanceof SimpleMailMessage simple) failed.put(simple, error);
+            });
+            if (failed.isEmpty()) batch.forEach(message -> failed.put(message, e));
+        } catch (Exception e) {
+            batch.forEach(message -> failed.put(message, e));
+        }
+        log.info("SMTP batch: {} sent, {} failed", batch.size() - failed.size(), failed.size());
+        return failed;
+    }
+
+    // Spreads messages evenly over the sessions, never putting more than maxPerSession on one connection
+    List<List<SimpleMailMessage>> partition(List<SimpleMailMessage> messages) {
+        if (messages.isEmpty()) return List.of();
+        int perBatch = Math.min(maxPerSession, (messages.size() + sessions - 1) / sessions);
+        List<List<SimpleMailMessage>> batches = new ArrayList<>();
+        for (int from = 0; from < messages.size(); from += perBatch) {
+            batches.add(messages.subList(from, Math.min(from + perBatch, messages.size())));
+        }
+        return batches;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,71 @@
+package com.wulghash.gamereleasetracker.infrastructure.mail;
+
+import com.wulghash.gamereleasetracker.infrastructure.mail.NotificationOutbox.OutboxMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Folds the e-mails held for digest recipients into one message each. A recipient's messages are
+ * held for {@code hold} after the first one arrives, which covers a whole notification or sync run,
+ * and are then queued as a single digest.
+ */
+@Component
+@Slf4j
+class DigestAssembler {
+
+    private final NotificationOutbox outbox;
+    private final TransactionOperations transactionOperations;
+    private final Duration hold;
+
+    DigestAssembler(NotificationOutbox outbox,
+                    TransactionOperations transactionOperations,
+                    @Value("${app.mail.digest.hold:PT30M}") Duration hold) {
+        this.outbox = outbox;
+        this.transactionOperations = transactionOperations;
+        this.hold = hold;
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.digest.poll-interval:PT1M}")
+    public void assembleDue() {
+        List<String> recipients = outbox.recipientsHeldSince(LocalDateTime.now().minus(hold));
+        for (String recipient : recipients) {
+            transactionOperations.executeWithoutResult(status -> assemble(recipient));
+        }
+        if (!recipients.isEmpty()) log.info("Digest: queued e-mails for {} recipient(s)", recipients.size());
+    }
+
+    private void assemble(String recipient) {
+        List<OutboxMessage> held = outbox.lockHeld(recipient);
+        if (held.isEmpty()) return;
+
+        List<UUID> ids = held.stream().map(OutboxMessage::id).toList();
+        if (held.size() == 1) {
+            outbox.release(ids);
+            return;
+        }
+        outbox.replaceWithDigest(ids, "digest:" + recipient + ":" + ids.get(0), recipient,
+                subject(held), body(held));
+    }
+
+    static String subject(List<OutboxMessage> held) {
+        return "Your game updates: " + held.size() + " notifications";
+    }
+
+    // Each section keeps its own unsubscribe link, since every event belongs to a different subscription
+    static String body(List<OutboxMessage> held) {
+        StringBuilder body = new StringBuilder();
+        for (OutboxMessage message : held) {
+            if (!body.isEmpty()) body.append("\n");
+            body.append("== ").append(message.subject()).append(" ==\n\n").append(message.body());
+        }
+        return body.toString();
+    }
+}
@@ -5,7 +5,6 @@ import java.time.LocalDate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
@@ -18,15 +17,18 @@ public class EmailNotificationService {
     @Autowired(required = false)
     private JavaMailSender mailSender;
 
-    @Value("${app.mail.from}")
-    private String from;
+    @Autowired
+    private NotificationOutbox outbox;
 
     @Value("${app.base-url}")
     private String baseUrl;
 
-    public void sendReleaseToday(String to, Game game, UUID unsubscribeToken) {
+    // Per-game notifications are rendered once and sent to every subscriber with send(...);
+    // only the unsubscribe token differs between recipients.
+
+    public RenderedNotification renderReleaseToday(Game game) {
         String subject = game.getTitle() + " is out today!";
-        String body = """
+        String bodyHead = """
                 Great news! %s is available now.
 
                 Release date: %s
@@ -34,21 +36,21 @@ public class EmailNotificationService {
                 %s
 
                 ---
-                Unsubscribe: %s/api/v1/unsubscribe/%s
-                """.formatted(
+                Unsubscribe: %s/api/v1/unsubscribe/""".formatted(
                 game.getTitle(),
                 game.getReleaseDate(),
                 game.getPlatforms(),
                 game.getShopUrl() != null ? "Shop: " + game.getShopUrl() : "",
-                baseUrl, unsubscribeToken
+                baseUrl
         );
 
-        send(to, subject, body);
+        return new RenderedNotification("release-today:" + game.getId() + ":" + game.getReleaseDate(),
+                subject, bodyHead, "\n");
     }
 
-    public void sendReleaseSoon(String to, Game game, UUID unsubscribeToken) {
+    public RenderedNotification renderReleaseSoon(Game game) {
         String subject = game.getTitle() + " releases in 7 days!";
-        String body = """
+        String bodyHead = """
                 Heads up! %s releases in one week.
 
                 Release date: %s
@@ -56,21 +58,21 @@ public class EmailNotificationService {
                 %s
 
                 ---
-                Unsubscribe: %s/api/v1/unsubscribe/%s
-                """.formatted(
+                Unsubscribe: %s/api/v1/unsubscribe/""".formatted(
                 game.getTitle(),
                 game.getReleaseDate(),
                 game.getPlatforms(),
                 game.getShopUrl() != null ? "Shop: " + game.getShopUrl() : "",
-                baseUrl, unsubscribeToken
+                baseUrl
         );
 
-        send(to, subject, body);
+        return new RenderedNotification("release-soon:" + game.getId() + ":" + game.getReleaseDate(),
+                subject, bodyHead, "\n");
     }
 
-    public void sendDateChanged(String to, Game game, LocalDate oldDate, UUID unsubscribeToken) {
+    public RenderedNotification renderDateChanged(Game game, LocalDate oldDate) {
         String subject = game.getTitle() + " — release date updated";
-        String body = """
+        String bodyHead = """
                 The release date for %s has changed.
 
                 Old date: %s
@@ -79,17 +81,21 @@ public class EmailNotificationService {
                 %s
 
                 ---
-                Unsubscribe: %s/api/v1/unsubscribe/%s
-                """.formatted(
+                Unsubscribe: %s/api/v1/unsubscribe/""".formatted(
                 game.getTitle(),
                 oldDate,
                 game.getReleaseDate(),
                 game.getPlatforms(),
                 game.getShopUrl() != null ? "Shop: " + game.getShopUrl() : "",
-                baseUrl, unsubscribeToken
+                baseUrl
         );
 
-        send(to, subject, body);
+        return new RenderedNotification("date-changed:" + game.getId() + ":" + oldDate + ":" + game.getReleaseDate(),
+                subject, bodyHead, "\n");
+    }
+
+    public void send(RenderedNotification notification, String to, UUID unsubscribeToken) {
+        send(notification.idempotencyKey(to), to, notification.subject(), notification.bodyFor(unsubscribeToken), true);
     }
 
     public void sendCancellation(String to, Game game) {
@@ -100,24 +106,21 @@ public class EmailNotificationService {
                 Your subscription has been removed automatically.
                 """.formatted(game.getTitle());
 
-        send(to, subject, body);
+        // Not held for the digest: the subscription is already gone, so this is the last word on the game
+        send("cancelled:" + game.getId() + ":" + to, to, subject, body, false);
     }
 
-    private void send(String to, String subject, String body) {
+    // Queues the e-mail in the outbox as part of the caller's transaction; OutboxDispatcher delivers it.
+    // The idempotency key identifies the event, so a retried job or request does not e-mail twice.
+    private void send(String idempotencyKey, String to, String subject, String body, boolean digestible) {
         if (mailSender == null) {
             log.warn("Mail sender not configured — skipping email to {}: {}", to, subject);
             return;
         }
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(from);
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-            mailSender.send(message);
-            log.info("Email sent to {} — {}", to, subject);
-        } catch (Exception e) {
-            log.error("Failed to send email to {}: {}", to, e.getMessage());
+        if (outbox.enqueue(idempotencyKey, to, subject, body, digestible)) {
+            log.debug("Email queued for {} — {}", to, subject);
+        } else {
+            log.debug("Email already queued for {} — {}", to, subject);
         }
     }
 }
@@ -0,0 +1,152 @@
+package com.wulghash.gamereleasetracker.infrastructure.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The {@code notification_outbox} table. Writes use the caller's JDBC connection, so an enqueue
+ * commits or rolls back together with the surrounding transaction.
+ */
+@Repository
+@RequiredArgsConstructor
+class NotificationOutbox {
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> new OutboxMessage(
+            rs.getObject("id", UUID.class),
+            rs.getString("recipient"),
+            rs.getString("subject"),
+            rs.getString("body"),
+            rs.getInt("attempts"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * Returns false when a message with the same idempotency key was already enqueued. Digestible
+     * messages for recipients who opted into the digest are held until {@link DigestAssembler} folds
+     * them together; everything else is queued for delivery straight away.
+     */
+    boolean enqueue(String idempotencyKey, String recipient, String subject, String body, boolean digestible) {
+        return jdbc.update("""
+                INSERT INTO notification_outbox (idempotency_key, recipient, subject, body, status)
+                SELECT :key, :recipient, :subject, :body,
+                       CASE WHEN :digestible AND EXISTS (SELECT 1 FROM notification_preferences p
+                                                         WHERE p.email = :recipient AND p.digest_enabled)
+                            THEN 'HELD' ELSE 'PENDING' END
+                ON CONFLICT (idempotency_key) DO NOTHING
+                """, Map.of("key", idempotencyKey, "recipient", recipient, "subject", subject, "body", body,
+                "digestible", digestible)) > 0;
+    }
+
+    /** Recipients whose oldest held message was enqueued before {@code cutoff}. */
+    List<String> recipientsHeldSince(LocalDateTime cutoff) {
+        return jdbc.queryForList("""
+                SELECT recipient FROM notification_outbox
+                WHERE status = 'HELD'
+                GROUP BY recipient
+                HAVING min(created_at) < :cutoff
+                """, Map.of("cutoff", Timestamp.valueOf(cutoff)), String.class);
+    }
+
+    /** Locks and returns a recipient's held messages, oldest first. Must run inside a transaction. */
+    List<OutboxMessage> lockHeld(String recipient) {
+        return jdbc.query("""
+                SELECT id, recipient, subject, body, attempts, created_at FROM notification_outbox
+                WHERE status = 'HELD' AND recipient = :recipient
+                ORDER BY created_at, id
+                FOR UPDATE SKIP LOCKED
+                """, Map.of("recipient", recipient), ROW_MAPPER);
+    }
+
+    /** Queues held messages for delivery as they are. */
+    void release(Collection<UUID> ids) {
+        if (ids.isEmpty()) return;
+        jdbc.update("UPDATE notification_outbox SET status = 'PENDING', next_attempt_at = now() WHERE id IN (:ids)",
+                Map.of("ids", ids));
+    }
+
+    /** Queues a digest in place of the held messages it was built from, which stay as idempotency records. */
+    void replaceWithDigest(Collection<UUID> ids, String idempotencyKey, String recipient, String subject, String body) {
+        jdbc.update("""
+                INSERT INTO notification_outbox (idempotency_key, recipient, subject, body)
+                VALUES (:key, :recipient, :subject, :body)
+                ON CONFLICT (idempotency_key) DO NOTHING
+                """, Map.of("key", idempotencyKey, "recipient", recipient, "subject", subject, "body", body));
+        jdbc.update("UPDATE notification_outbox SET status = 'DIGESTED', sent_at = now() WHERE id IN (:ids)",
+                Map.of("ids", ids));
+    }
+
+    /**
+     * Claims up to {@code limit} due messages by pushing their next attempt past the lease and
+     * counting the attempt. Concurrent dispatchers skip rows another one has locked, and a
+     * dispatcher that dies mid-batch only delays its messages until the lease runs out.
+     */
+    List<OutboxMessage> claimDue(int limit, Duration lease) {
+        return jdbc.query("""
+                UPDATE notification_outbox
+                SET attempts = attempts + 1,
+                    next_attempt_at = now() + make_interval(secs => :leaseSeconds)
+                WHERE id IN (
+                    SELECT id FROM notification_outbox
+                    WHERE status = 'PENDING' AND next_attempt_at <= now()
+                    ORDER BY next_attempt_at
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id, recipient, subject, body, attempts, created_at
+                """, Map.of("limit", limit, "leaseSeconds", lease.toSeconds()), ROW_MAPPER);
+    }
+
+    void markSent(Collection<UUID> ids) {
+        if (ids.isEmpty()) return;
+        jdbc.update("""
+                UPDATE notification_outbox SET status = 'SENT', sent_at = now(), last_error = NULL
+                WHERE id IN (:ids)
+                """, Map.of("ids", ids));
+    }
+
+    void scheduleRetry(UUID id, Duration delay, String error) {
+        jdbc.update("""
+                UPDATE notification_outbox
+                SET next_attempt_at = now() + make_interval(secs => :delaySeconds), last_error = :error
+                WHERE id = :id
+                """, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("delaySeconds", delay.toSeconds())
+                .addValue("error", error));
+    }
+
+    void markFailed(UUID id, String error) {
+        jdbc.update("UPDATE notification_outbox SET status = 'FAILED', last_error = :error WHERE id = :id",
+                new MapSqlParameterSource().addValue("id", id).addValue("error", error));
+    }
+
+    PendingStats pendingStats() {
+        return jdbc.queryForObject(
+                "SELECT count(*) AS pending, min(created_at) AS oldest FROM notification_outbox WHERE status = 'PENDING'",
+                Map.of(),
+                (rs, rowNum) -> {
+                    Timestamp oldest = rs.getTimestamp("oldest");
+                    return new PendingStats(rs.getLong("pending"), oldest != null ? oldest.toLocalDateTime() : null);
+                });
+    }
+
+    int purgeSentBefore(LocalDateTime cutoff) {
+        return jdbc.update("DELETE FROM notification_outbox WHERE status IN ('SENT', 'DIGESTED') AND sent_at < :cutoff",
+                Map.of("cutoff", Timestamp.valueOf(cutoff)));
+    }
+
+    record OutboxMessage(UUID id, String recipient, String subject, String body, int attempts, LocalDateTime createdAt) {}
+
+    record PendingStats(long pending, LocalDateTime oldestCreatedAt) {}
+}
@@ -0,0 +1,169 @@
+package com.wulghash.gamereleasetracker.infrastructure.mail;
+
+import com.wulghash.gamereleasetracker.infrastructure.mail.NotificationOutbox.OutboxMessage;
+import com.wulghash.gamereleasetracker.infrastructure.mail.NotificationOutbox.PendingStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers e-mails queued in the notification outbox. Each poll drains due messages in batches
+ * until none are left; failed sends are retried with exponential backoff and given up on after
+ * {@code max-attempts}.
+ */
+@Component
+@Slf4j
+class OutboxDispatcher {
+
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final NotificationOutbox outbox;
+    private final BulkMailSender mailSender;
+    private final String from;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBase;
+    private final Duration lease;
+    private final Duration retention;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter dead;
+    private final Timer deliveryLag;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    OutboxDispatcher(NotificationOutbox outbox,
+                     BulkMailSender mailSender,
+                     MeterRegistry meterRegistry,
+                     @Value("${app.mail.from}") String from,
+                     @Value("${app.mail.outbox.batch-size:100}") int batchSize,
+                     @Value("${app.mail.outbox.max-attempts:8}") int maxAttempts,
+                     @Value("${app.mail.outbox.retry-base:PT30S}") Duration retryBase,
+                     @Value("${app.mail.outbox.lease:PT5M}") Duration lease,
+                     @Value("${app.mail.outbox.retention:P30D}") Duration retention) {
+        this.outbox = outbox;
+        this.mailSender = mailSender;
+        this.from = from;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBase = retryBase;
+        this.lease = lease;
+        this.retention = retention;
+
+        this.sent = Counter.builder("notifications.outbox.sent")
+                .description("E-mails delivered from the outbox")
+                .register(meterRegistry);
+        this.retried = Counter.builder("notifications.outbox.failed")
+                .description("Outbox deliveries that failed")
+                .tag("outcome", "retry")
+                .register(meterRegistry);
+        this.dead = Counter.builder("notifications.outbox.failed")
+                .description("Outbox deliveries that failed")
+                .tag("outcome", "gave_up")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("notifications.outbox.delivery.lag")
+                .description("Time from enqueue to successful delivery")
+                .register(meterRegistry);
+        Gauge.builder("notifications.outbox.pending", pending, AtomicLong::get)
+                .description("E-mails waiting in the outbox")
+                .register(meterRegistry);
+        Gauge.builder("notifications.outbox.oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("Age in seconds of the oldest e-mail waiting in the outbox")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:PT5S}")
+    public void dispatch() {
+        if (!mailSender.isConfigured()) return;
+
+        int delivered = 0;
+        List<OutboxMessage> batch;
+        do {
+            batch = outbox.claimDue(batchSize, lease);
+            delivered += deliver(batch);
+        } while (batch.size() == batchSize);
+
+        if (delivered > 0) log.info("Outbox: {} e-mail(s) delivered", delivered);
+        refreshPendingStats();
+    }
+
+    // Sent rows only serve as idempotency records once delivered; keep them for a while, then drop them
+    @Scheduled(cron = "0 30 4 * * *", zone = "Europe/Warsaw")
+    public void purgeDelivered() {
+        int purged = outbox.purgeSentBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) log.info("Outbox: purged {} delivered e-mail(s) older than {}", purged, retention);
+    }
+
+    private int deliver(List<OutboxMessage> batch) {
+        List<SimpleMailMessage> mails = batch.stream().map(this::toMail).toList();
+        Map<SimpleMailMessage, Exception> failures = mailSender.sendAll(mails);
+
+        List<UUID> delivered = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxMessage message = batch.get(i);
+            Exception failure = failures.get(mails.get(i));
+            if (failure != null) {
+                handleFailure(message, failure);
+            } else {
+                delivered.add(message.id());
+                deliveryLag.record(Duration.between(message.createdAt(), now));
+            }
+        }
+        outbox.markSent(delivered);
+        sent.increment(delivered.size());
+        return delivered.size();
+    }
+
+    private void handleFailure(OutboxMessage message, Exception e) {
+        if (message.attempts() >= maxAttempts) {
+            log.error("Giving up on e-mail to {} after {} attempt(s): {}", message.recipient(), message.attempts(), e.getMessage());
+            outbox.markFailed(message.id(), e.getMessage());
+            dead.increment();
+            return;
+        }
+        Duration delay = backoff(message.attempts());
+        log.warn("E-mail to {} failed (attempt {}/{}), retrying in {}: {}",
+                message.recipient(), message.attempts(), maxAttempts, delay, e.getMessage());
+        outbox.scheduleRetry(message.id(), delay, e.getMessage());
+        retried.increment();
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = retryBase.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private void refreshPendingStats() {
+        PendingStats stats = outbox.pendingStats();
+        pending.set(stats.pending());
+        oldestPendingAgeSeconds.set(stats.oldestCreatedAt() != null
+                ? Duration.between(stats.oldestCreatedAt(), LocalDateTime.now()).toSeconds()
+                : 0);
+    }
+
+    private SimpleMailMessage toMail(OutboxMessage message) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(from);
+        mail.setTo(message.recipient());
+        mail.setSubject(message.subject());
+        mail.setText(message.body());
+        return mail;
+    }
+}
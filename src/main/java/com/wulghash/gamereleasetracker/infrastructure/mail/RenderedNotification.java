@@ -0,0 +1,35 @@
+package com.wulghash.gamereleasetracker.infrastructure.mail;
+
+import java.util.UUID;
+
+/**
+ * A notification rendered once for one game: subject and body are final except for the
+ * recipient's unsubscribe token, which is spliced in between {@code bodyHead} and {@code bodyTail}.
+ * Build one per game and notification type, then send it to every subscriber.
+ */
+public final class RenderedNotification {
+
+    private final String eventKey;
+    private final String subject;
+    private final String bodyHead;
+    private final String bodyTail;
+
+    public RenderedNotification(String eventKey, String subject, String bodyHead, String bodyTail) {
+        this.eventKey = eventKey;
+        this.subject = subject;
+        this.bodyHead = bodyHead;
+        this.bodyTail = bodyTail;
+    }
+
+    String subject() {
+        return subject;
+    }
+
+    String bodyFor(UUID unsubscribeToken) {
+        return bodyHead + unsubscribeToken + bodyTail;
+    }
+
+    String idempotencyKey(String recipient) {
+        return eventKey + ":" + recipient;
+    }
+}
@@ -1,11 +1,29 @@
 package com.wulghash.gamereleasetracker.infrastructure.persistence;
 
 import com.wulghash.gamereleasetracker.domain.model.BacklogEntry;
+import com.wulghash.gamereleasetracker.domain.model.BacklogEntryView;
 import com.wulghash.gamereleasetracker.domain.model.BacklogStatus;
 import com.wulghash.gamereleasetracker.domain.port.out.BacklogRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +33,8 @@ import java.util.UUID;
 public class BacklogRepositoryAdapter implements BacklogRepository {
 
     private final SpringDataBacklogRepository jpaRepository;
+    private final EntityManager entityManager;
+    private final NamedParameterJdbcTemplate jdbc;
 
     @Override
     public BacklogEntry save(BacklogEntry entry) {
@@ -27,24 +47,89 @@ public class BacklogRepositoryAdapter implements BacklogRepository {
     }
 
     @Override
-    public List<BacklogEntry> findAllByUserId(UUID userId, BacklogStatus status) {
-        if (status == null) {
-            return jpaRepository.findAllByUserId(userId).stream()
-                    .map(BacklogEntryJpaEntity::toDomain)
-                    .toList();
+    public Page<BacklogEntryView> findAll(UUID userId, BacklogStatus status, String namePrefix,
+                                          LocalDate from, LocalDate to, Pageable pageable) {
+        Specification<BacklogEntryJpaEntity> spec = BacklogSpecification.withFilters(userId, status, namePrefix, from, to);
+        List<BacklogEntryView> content = selectViews(spec, pageable);
+        return PageableExecutionUtils.getPage(content, pageable, () -> jpaRepository.count(spec));
+    }
+
+    // Tuple projection: rows are read straight into views without managed entities or snapshots
+    private List<BacklogEntryView> selectViews(Specification<BacklogEntryJpaEntity> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<BacklogEntryJpaEntity> root = query.from(BacklogEntryJpaEntity.class);
+        query.multiselect(
+                root.get("id"), root.get("userId"), root.get("igdbId"), root.get("name"),
+                root.get("coverUrl"), root.get("releaseDate"), root.get("backlogStatus"), root.get("igdbScore"),
+                root.get("rating"), root.get("notes"), root.get("createdAt"), root.get("updatedAt"));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(withIdTieBreak(pageable.getSort()), root, cb));
+
+        TypedQuery<Tuple> typed = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typed.setFirstResult(Math.toIntExact(pageable.getOffset())).setMaxResults(pageable.getPageSize());
         }
-        return jpaRepository.findAllByUserIdAndBacklogStatus(userId, status).stream()
-                .map(BacklogEntryJpaEntity::toDomain)
+        return typed.getResultStream()
+                .map(BacklogRepositoryAdapter::toView)
                 .toList();
     }
 
+    // Sort keys repeat across entries, so id keeps pages stable; it follows the last key's direction
+    // so the (user_id, <key>, id) indexes can be walked in either direction without a sort step
+    private static Sort withIdTieBreak(Sort sort) {
+        Sort.Direction direction = sort.stream().reduce((first, second) -> second)
+                .map(Sort.Order::getDirection)
+                .orElse(Sort.Direction.ASC);
+        return sort.and(Sort.by(direction, "id"));
+    }
+
     @Override
-    public void deleteByIdAndUserId(UUID id, UUID userId) {
-        jpaRepository.deleteByIdAndUserId(id, userId);
+    public boolean insert(BacklogEntry entry) {
+        int inserted = jdbc.update("""
+                INSERT INTO backlog_entries (id, user_id, igdb_id, name, cover_url, release_date, backlog_status,
+                                             igdb_score, rating, notes, created_at, updated_at)
+                VALUES (:id, :userId, :igdbId, :name, :coverUrl, :releaseDate, :backlogStatus,
+                        :igdbScore, :rating, :notes, :createdAt, :updatedAt)
+                ON CONFLICT (user_id, igdb_id) DO NOTHING
+                """, new MapSqlParameterSource()
+                .addValue("id", entry.getId())
+                .addValue("userId", entry.getUserId())
+                .addValue("igdbId", entry.getIgdbId())
+                .addValue("name", entry.getName())
+                .addValue("coverUrl", entry.getCoverUrl())
+                .addValue("releaseDate", entry.getReleaseDate())
+                .addValue("backlogStatus", entry.getBacklogStatus().name())
+                .addValue("igdbScore", entry.getIgdbScore())
+                .addValue("rating", entry.getRating())
+                .addValue("notes", entry.getNotes())
+                .addValue("createdAt", entry.getCreatedAt())
+                .addValue("updatedAt", entry.getUpdatedAt()));
+        return inserted > 0;
     }
 
     @Override
-    public boolean existsByUserIdAndIgdbId(UUID userId, Long igdbId) {
-        return jpaRepository.existsByUserIdAndIgdbId(userId, igdbId);
+    @Transactional
+    public boolean deleteByIdAndUserId(UUID id, UUID userId) {
+        return jpaRepository.deleteByIdAndUserId(id, userId) > 0;
+    }
+
+    private static BacklogEntryView toView(Tuple row) {
+        Short igdbScore = row.get(7, Short.class);
+        Short rating = row.get(8, Short.class);
+        return new BacklogEntryView(
+                row.get(0, UUID.class),
+                row.get(1, UUID.class),
+                row.get(2, Long.class),
+                row.get(3, String.class),
+                row.get(4, String.class),
+                row.get(5, LocalDate.class),
+                row.get(6, BacklogStatus.class),
+                igdbScore != null ? igdbScore.intValue() : null,
+                rating != null ? rating.intValue() : null,
+                row.get(9, String.class),
+                row.get(10, LocalDateTime.class),
+                row.get(11, LocalDateTime.class)
+        );
     }
 }
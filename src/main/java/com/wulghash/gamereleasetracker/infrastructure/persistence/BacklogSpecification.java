@@ -0,0 +1,46 @@
+package com.wulghash.gamereleasetracker.infrastructure.persistence;
+
+import com.wulghash.gamereleasetracker.domain.model.BacklogStatus;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+class BacklogSpecification {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    static Specification<BacklogEntryJpaEntity> withFilters(UUID userId, BacklogStatus status, String namePrefix,
+                                                            LocalDate from, LocalDate to) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            predicates.add(cb.equal(root.get("userId"), userId));
+
+            if (status != null) {
+                predicates.add(cb.equal(root.get("backlogStatus"), status));
+            }
+            // Case-insensitive prefix match on lower(name), served by idx_backlog_entries_user_name_prefix
+            if (namePrefix != null && !namePrefix.isBlank()) {
+                String pattern = escapeLike(namePrefix.strip().toLowerCase(Locale.ROOT)) + "%";
+                predicates.add(cb.like(cb.lower(root.get("name")), pattern, LIKE_ESCAPE));
+            }
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("releaseDate"), from));
+            }
+            if (to != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("releaseDate"), to));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
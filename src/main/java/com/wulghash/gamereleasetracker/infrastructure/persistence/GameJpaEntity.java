@@ -2,25 +2,24 @@ package com.wulghash.gamereleasetracker.infrastructure.persistence;
 
 import com.wulghash.gamereleasetracker.domain.model.Game;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
-import com.wulghash.gamereleasetracker.domain.model.Platform;
+import com.wulghash.gamereleasetracker.domain.model.JobShard;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "games")
 @Getter
 @Setter
 @NoArgsConstructor
-public class GameJpaEntity {
+public class GameJpaEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -37,11 +36,9 @@ public class GameJpaEntity {
     @Column(name = "release_date", nullable = false)
     private LocalDate releaseDate;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "game_platforms", joinColumns = @JoinColumn(name = "game_id"))
-    @Column(name = "platform")
-    @Enumerated(EnumType.STRING)
-    private Set<Platform> platforms = new HashSet<>();
+    // Bit per platform, see PlatformMask
+    @Column(name = "platform_mask", nullable = false)
+    private short platformMask;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -68,16 +65,31 @@ public class GameJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Derived from the id; scheduled jobs split the catalog across nodes by it
+    @Column(name = "shard_key", nullable = false, updatable = false)
+    private int shardKey;
+
+    // Ids are assigned by the application, so without this save() would merge and SELECT the row
+    // first; set only for games that were just created, cleared once Hibernate has the row
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private boolean isNew;
+
+    public static GameJpaEntity newFrom(Game game) {
+        GameJpaEntity entity = from(game);
+        entity.isNew = true;
+        return entity;
+    }
+
     public static GameJpaEntity from(Game game) {
         GameJpaEntity entity = new GameJpaEntity();
         entity.id = game.getId();
+        entity.shardKey = JobShard.keyOf(game.getId());
         entity.userId = game.getUserId();
         entity.title = game.getTitle();
         entity.description = game.getDescription();
         entity.releaseDate = game.getReleaseDate();
-        entity.platforms = game.getPlatforms() != null
-                ? new HashSet<>(game.getPlatforms())
-                : new HashSet<>();
+        entity.platformMask = PlatformMask.of(game.getPlatforms());
         entity.status = game.getStatus();
         entity.shopUrl = game.getShopUrl();
         entity.imageUrl = game.getImageUrl();
@@ -97,7 +109,7 @@ public class GameJpaEntity {
                 .title(title)
                 .description(description)
                 .releaseDate(releaseDate)
-                .platforms(new HashSet<>(platforms))
+                .platforms(PlatformMask.toSet(platformMask))
                 .status(status)
                 .shopUrl(shopUrl)
                 .imageUrl(imageUrl)
@@ -109,4 +121,15 @@ public class GameJpaEntity {
                 .updatedAt(updatedAt)
                 .build();
     }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
 }
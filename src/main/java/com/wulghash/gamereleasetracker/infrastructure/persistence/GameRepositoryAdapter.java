@@ -1,15 +1,34 @@
 package com.wulghash.gamereleasetracker.infrastructure.persistence;
 
 import com.wulghash.gamereleasetracker.domain.model.Game;
+import com.wulghash.gamereleasetracker.domain.model.GameCursor;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.GameView;
+import com.wulghash.gamereleasetracker.domain.model.JobShard;
 import com.wulghash.gamereleasetracker.domain.model.Platform;
 import com.wulghash.gamereleasetracker.domain.port.out.GameRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,13 +37,21 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class GameRepositoryAdapter implements GameRepository {
 
+    private static final Sort KEYSET_ORDER = Sort.by("releaseDate", "id");
+
     private final SpringDataGameRepository jpaRepository;
+    private final EntityManager entityManager;
 
     @Override
     public Game save(Game game) {
         return jpaRepository.save(GameJpaEntity.from(game)).toDomain();
     }
 
+    @Override
+    public Game insert(Game game) {
+        return jpaRepository.save(GameJpaEntity.newFrom(game)).toDomain();
+    }
+
     @Override
     public Optional<Game> findById(UUID id, UUID userId) {
         return jpaRepository.findOne(GameSpecification.withIdAndUserId(id, userId))
@@ -32,38 +59,87 @@ public class GameRepositoryAdapter implements GameRepository {
     }
 
     @Override
-    public Page<Game> findAll(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to, Pageable pageable) {
-        return jpaRepository.findAll(GameSpecification.withFilters(userId, platform, status, from, to), pageable)
-                .map(GameJpaEntity::toDomain);
+    public Page<GameView> findAll(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to, Pageable pageable) {
+        Specification<GameJpaEntity> spec = GameSpecification.withFilters(userId, platform, status, from, to);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(selectViews(spec, pageable.getSort(), 0, Integer.MAX_VALUE));
+        }
+        List<GameView> content = selectViews(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> jpaRepository.count(spec));
     }
 
     @Override
-    public void deleteById(UUID id, UUID userId) {
-        jpaRepository.findOne(GameSpecification.withIdAndUserId(id, userId))
-                .ifPresent(jpaRepository::delete);
+    public Slice<GameView> findAfter(UUID userId, Platform platform, GameStatus status, LocalDate from, LocalDate to,
+                                     GameCursor after, int limit) {
+        Specification<GameJpaEntity> spec = GameSpecification.withFilters(userId, platform, status, from, to);
+        if (after != null) spec = spec.and(GameSpecification.after(after.getReleaseDate(), after.getId()));
+
+        // One extra row tells whether there is a next page without counting
+        List<GameView> rows = selectViews(spec, KEYSET_ORDER, 0, limit + 1);
+        List<GameView> content = rows.size() > limit ? rows.subList(0, limit) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, limit, KEYSET_ORDER), rows.size() > limit);
     }
 
-    @Override
-    public boolean existsById(UUID id, UUID userId) {
-        return jpaRepository.exists(GameSpecification.withIdAndUserId(id, userId));
+    // Selects only the listed columns as tuples: nothing enters the persistence context, so there
+    // are no entity instances, dirty-checking snapshots or toDomain() copies per row
+    private List<GameView> selectViews(Specification<GameJpaEntity> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<GameJpaEntity> root = query.from(GameJpaEntity.class);
+        query.multiselect(
+                root.get("id"), root.get("title"), root.get("description"), root.get("releaseDate"),
+                root.get("platformMask"), root.get("status"), root.get("shopUrl"), root.get("imageUrl"),
+                root.get("developer"), root.get("publisher"), root.get("igdbId"), root.get("tba"),
+                root.get("createdAt"), root.get("updatedAt"));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(GameRepositoryAdapter::toView)
+                .toList();
+    }
+
+    private static GameView toView(Tuple row) {
+        return new GameView(
+                row.get(0, UUID.class),
+                row.get(1, String.class),
+                row.get(2, String.class),
+                row.get(3, LocalDate.class),
+                PlatformMask.toSet(row.get(4, Short.class)),
+                row.get(5, GameStatus.class),
+                row.get(6, String.class),
+                row.get(7, String.class),
+                row.get(8, String.class),
+                row.get(9, String.class),
+                row.get(10, Long.class),
+                row.get(11, Boolean.class),
+                row.get(12, LocalDateTime.class),
+                row.get(13, LocalDateTime.class)
+        );
     }
 
     @Override
-    public boolean existsByIdForAnyUser(UUID id) {
-        return jpaRepository.existsById(id);
+    @Transactional
+    public boolean deleteById(UUID id, UUID userId) {
+        return jpaRepository.deleteByIdAndUserId(id, userId) > 0;
     }
 
     @Override
-    public List<Game> findAllByStatus(GameStatus status) {
-        return jpaRepository.findByStatus(status).stream()
+    public List<Game> findChunkByStatus(GameStatus status, JobShard shard, UUID afterId, int limit) {
+        List<GameJpaEntity> chunk = afterId == null
+                ? jpaRepository.findShardChunk(status, shard.getIndex(), shard.getCount(), Limit.of(limit))
+                : jpaRepository.findShardChunkAfter(status, shard.getIndex(), shard.getCount(), afterId, Limit.of(limit));
+        return chunk.stream()
                 .map(GameJpaEntity::toDomain)
                 .toList();
     }
 
     @Override
-    public List<Game> findAllByStatusAndReleaseDate(GameStatus status, LocalDate releaseDate) {
-        return jpaRepository.findByStatusAndReleaseDate(status, releaseDate).stream()
-                .map(GameJpaEntity::toDomain)
-                .toList();
+    @Transactional
+    public List<UUID> releaseAllDueBefore(LocalDate date) {
+        return jpaRepository.releaseAllDueBefore(date, LocalDateTime.now());
     }
 }
@@ -19,7 +19,7 @@ class GameSpecification {
             predicates.add(cb.equal(root.get("userId"), userId));
 
             if (platform != null) {
-                predicates.add(cb.isMember(platform, root.get("platforms")));
+                predicates.add(root.get("platformMask").in(PlatformMask.containing(platform)));
             }
             if (status != null) {
                 predicates.add(cb.equal(root.get("status"), status));
@@ -35,6 +35,18 @@ class GameSpecification {
         };
     }
 
+    // (releaseDate, id) > (cursor): the redundant releaseDate >= bound lets Postgres start the
+    // (user_id, release_date, id) index scan at the cursor instead of filtering from the first row
+    static Specification<GameJpaEntity> after(LocalDate releaseDate, UUID id) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("releaseDate"), releaseDate),
+                cb.or(
+                        cb.greaterThan(root.get("releaseDate"), releaseDate),
+                        cb.greaterThan(root.<UUID>get("id"), id)
+                )
+        );
+    }
+
     static Specification<GameJpaEntity> withIdAndUserId(UUID id, UUID userId) {
         return (root, query, cb) -> cb.and(
                 cb.equal(root.get("id"), id),
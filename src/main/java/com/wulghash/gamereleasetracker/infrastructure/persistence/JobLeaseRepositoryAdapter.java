@@ -0,0 +1,141 @@
+package com.wulghash.gamereleasetracker.infrastructure.persistence;
+
+import com.wulghash.gamereleasetracker.domain.model.JobCheckpoint;
+import com.wulghash.gamereleasetracker.domain.port.out.JobLeaseRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/** Leases are timed against the database clock, so nodes do not need synchronised clocks. */
+@Component
+@RequiredArgsConstructor
+public class JobLeaseRepositoryAdapter implements JobLeaseRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    @Override
+    public void heartbeat(String nodeId) {
+        jdbc.update("""
+                INSERT INTO job_nodes (node_id, heartbeat_at) VALUES (:nodeId, now())
+                ON CONFLICT (node_id) DO UPDATE SET heartbeat_at = now()
+                """, Map.of("nodeId", nodeId));
+    }
+
+    @Override
+    public int countLiveNodes(Duration window) {
+        Integer live = jdbc.queryForObject("""
+                SELECT count(*) FROM job_nodes
+                WHERE heartbeat_at > now() - make_interval(secs => :windowSeconds)
+                """, Map.of("windowSeconds", window.toSeconds()), Integer.class);
+        return live != null ? live : 0;
+    }
+
+    @Override
+    @Transactional
+    public List<JobCheckpoint> claimShards(String jobName, String runKey, int shardCount, String nodeId, int max, Duration lease) {
+        jdbc.update("""
+                INSERT INTO job_shards (job_name, shard)
+                SELECT :jobName, s FROM generate_series(0, :shardCount - 1) AS s
+                ON CONFLICT (job_name, shard) DO NOTHING
+                """, Map.of("jobName", jobName, "shardCount", shardCount));
+
+        // A shard is free when it has not been run for this key yet, or its run was left
+        // unfinished by an owner whose lease has expired. Only the latter keeps its checkpoint.
+        return jdbc.query("""
+                UPDATE job_shards
+                SET last_id = CASE WHEN run_key = :runKey THEN last_id END,
+                    processed = CASE WHEN run_key = :runKey THEN processed ELSE 0 END,
+                    run_key = :runKey, owner = :nodeId, completed_at = NULL,
+                    lease_until = now() + make_interval(secs => :leaseSeconds)
+                WHERE (job_name, shard) IN (
+                    SELECT job_name, shard FROM job_shards
+                    WHERE job_name = :jobName AND shard < :shardCount
+                      AND (run_key IS DISTINCT FROM :runKey
+                           OR (completed_at IS NULL AND lease_until < now()))
+                    ORDER BY shard
+                    LIMIT :max
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING shard, last_id, processed
+                """, new MapSqlParameterSource()
+                .addValue("jobName", jobName)
+                .addValue("runKey", runKey)
+                .addValue("shardCount", shardCount)
+                .addValue("nodeId", nodeId)
+                .addValue("max", max)
+                .addValue("leaseSeconds", lease.toSeconds()),
+                (rs, rowNum) -> JobCheckpoint.builder()
+                        .shard(rs.getInt("shard"))
+                        .lastId(rs.getObject("last_id", UUID.class))
+                        .processed(rs.getInt("processed"))
+                        .build());
+    }
+
+    @Override
+    public void renewLeases(String jobName, Collection<Integer> shards, String nodeId, Duration lease) {
+        if (shards.isEmpty()) return;
+        jdbc.update("""
+                UPDATE job_shards SET lease_until = now() + make_interval(secs => :leaseSeconds)
+                WHERE job_name = :jobName AND shard IN (:shards) AND owner = :nodeId AND completed_at IS NULL
+                """, Map.of("jobName", jobName, "shards", shards, "nodeId", nodeId, "leaseSeconds", lease.toSeconds()));
+    }
+
+    // Joins the caller's transaction, so a checkpoint commits together with the work it records
+    @Override
+    public void saveCheckpoint(String jobName, int shard, String nodeId, UUID lastId, int processed) {
+        jdbc.update("""
+                UPDATE job_shards SET last_id = :lastId, processed = :processed, checkpoint_at = now()
+                WHERE job_name = :jobName AND shard = :shard AND owner = :nodeId
+                """, new MapSqlParameterSource()
+                .addValue("jobName", jobName)
+                .addValue("shard", shard)
+                .addValue("nodeId", nodeId)
+                .addValue("lastId", lastId)
+                .addValue("processed", processed));
+    }
+
+    @Override
+    public void completeShard(String jobName, int shard, String nodeId) {
+        jdbc.update("""
+                UPDATE job_shards SET completed_at = now(), lease_until = NULL
+                WHERE job_name = :jobName AND shard = :shard AND owner = :nodeId
+                """, Map.of("jobName", jobName, "shard", shard, "nodeId", nodeId));
+    }
+
+    @Override
+    public void startRun(String jobName, String runKey) {
+        jdbc.update("""
+                INSERT INTO job_runs (job_name, run_key) VALUES (:jobName, :runKey)
+                ON CONFLICT (job_name, run_key) DO NOTHING
+                """, Map.of("jobName", jobName, "runKey", runKey));
+    }
+
+    @Override
+    public void completeRunIfFinished(String jobName, String runKey, int shardCount) {
+        jdbc.update("""
+                UPDATE job_runs
+                SET completed_at = now(),
+                    processed = (SELECT sum(processed) FROM job_shards
+                                 WHERE job_name = :jobName AND shard < :shardCount)
+                WHERE job_name = :jobName AND run_key = :runKey AND completed_at IS NULL
+                  AND (SELECT count(*) FROM job_shards
+                       WHERE job_name = :jobName AND shard < :shardCount
+                         AND run_key = :runKey AND completed_at IS NOT NULL) = :shardCount
+                """, Map.of("jobName", jobName, "runKey", runKey, "shardCount", shardCount));
+    }
+
+    @Override
+    public boolean isRunCompleted(String jobName, String runKey) {
+        return Boolean.TRUE.equals(jdbc.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM job_runs
+                               WHERE job_name = :jobName AND run_key = :runKey AND completed_at IS NOT NULL)
+                """, Map.of("jobName", jobName, "runKey", runKey), Boolean.class));
+    }
+}
@@ -0,0 +1,25 @@
+package com.wulghash.gamereleasetracker.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "notification_preferences")
+@Getter
+@Setter
+@NoArgsConstructor
+public class NotificationPreferenceJpaEntity {
+
+    @Id
+    private String email;
+
+    @Column(name = "digest_enabled", nullable = false)
+    private boolean digestEnabled;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,27 @@
+package com.wulghash.gamereleasetracker.infrastructure.persistence;
+
+import com.wulghash.gamereleasetracker.domain.port.out.NotificationPreferenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationPreferenceRepositoryAdapter implements NotificationPreferenceRepository {
+
+    private final SpringDataNotificationPreferenceRepository jpaRepository;
+
+    @Override
+    public void setDigestEnabled(String email, boolean enabled) {
+        NotificationPreferenceJpaEntity entity = jpaRepository.findById(email)
+                .orElseGet(() -> {
+                    NotificationPreferenceJpaEntity created = new NotificationPreferenceJpaEntity();
+                    created.setEmail(email);
+                    return created;
+                });
+        entity.setDigestEnabled(enabled);
+        entity.setUpdatedAt(LocalDateTime.now());
+        jpaRepository.save(entity);
+    }
+}
@@ -0,0 +1,6 @@
+package com.wulghash.gamereleasetracker.infrastructure.persistence;
+
+import java.util.UUID;
+
+/** Row of the game/subscription join used for release notifications. */
+record NotificationTargetRow(GameJpaEntity game, String email, UUID unsubscribeToken) {}
@@ -0,0 +1,51 @@
+package com.wulghash.gamereleasetracker.infrastructure.persistence;
+
+import com.wulghash.gamereleasetracker.domain.model.Platform;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * Packs a set of platforms into the {@code games.platform_mask} column: bit n stands for the
+ * platform with ordinal n, so new platforms must only ever be appended to {@link Platform}.
+ */
+final class PlatformMask {
+
+    private static final Platform[] PLATFORMS = Platform.values();
+
+    private PlatformMask() {
+    }
+
+    static short of(Collection<Platform> platforms) {
+        int mask = 0;
+        if (platforms != null) {
+            for (Platform platform : platforms) mask |= bit(platform);
+        }
+        return (short) mask;
+    }
+
+    static EnumSet<Platform> toSet(short mask) {
+        EnumSet<Platform> platforms = EnumSet.noneOf(Platform.class);
+        for (Platform platform : PLATFORMS) {
+            if ((mask & bit(platform)) != 0) platforms.add(platform);
+        }
+        return platforms;
+    }
+
+    // Every mask that includes the platform. An IN list over these is a plain comparison the
+    // planner can match against an index, unlike (platform_mask & bit) <> 0.
+    static List<Short> containing(Platform platform) {
+        int bit = bit(platform);
+        List<Short> masks = new ArrayList<>();
+        for (int mask = 0; mask < 1 << PLATFORMS.length; mask++) {
+            if ((mask & bit) != 0) masks.add((short) mask);
+        }
+        return masks;
+    }
+
+    private static int bit(Platform platform) {
+        return 1 << platform.ordinal();
+    }
+}
@@ -1,21 +1,20 @@
 package com.wulghash.gamereleasetracker.infrastructure.persistence;
 
-import com.wulghash.gamereleasetracker.domain.model.BacklogStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface SpringDataBacklogRepository extends JpaRepository<BacklogEntryJpaEntity, UUID> {
-
-    List<BacklogEntryJpaEntity> findAllByUserId(UUID userId);
-
-    List<BacklogEntryJpaEntity> findAllByUserIdAndBacklogStatus(UUID userId, BacklogStatus backlogStatus);
-
-    boolean existsByUserIdAndIgdbId(UUID userId, Long igdbId);
+public interface SpringDataBacklogRepository extends JpaRepository<BacklogEntryJpaEntity, UUID>,
+        JpaSpecificationExecutor<BacklogEntryJpaEntity> {
 
     Optional<BacklogEntryJpaEntity> findByIdAndUserId(UUID id, UUID userId);
 
-    void deleteByIdAndUserId(UUID id, UUID userId);
+    @Modifying
+    @Query("DELETE FROM BacklogEntryJpaEntity e WHERE e.id = :id AND e.userId = :userId")
+    int deleteByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
 }
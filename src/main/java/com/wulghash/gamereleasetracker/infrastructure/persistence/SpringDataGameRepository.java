@@ -1,17 +1,51 @@
 package com.wulghash.gamereleasetracker.infrastructure.persistence;
 
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 interface SpringDataGameRepository extends JpaRepository<GameJpaEntity, UUID>,
         JpaSpecificationExecutor<GameJpaEntity> {
 
-    List<GameJpaEntity> findByStatus(GameStatus status);
+    @Query("""
+            SELECT g FROM GameJpaEntity g
+            WHERE g.status = :status AND mod(g.shardKey, :shardCount) = :shard
+            ORDER BY g.id
+            """)
+    List<GameJpaEntity> findShardChunk(@Param("status") GameStatus status,
+                                       @Param("shard") int shard,
+                                       @Param("shardCount") int shardCount,
+                                       Limit limit);
 
-    List<GameJpaEntity> findByStatusAndReleaseDate(GameStatus status, LocalDate releaseDate);
+    @Query("""
+            SELECT g FROM GameJpaEntity g
+            WHERE g.status = :status AND mod(g.shardKey, :shardCount) = :shard AND g.id > :afterId
+            ORDER BY g.id
+            """)
+    List<GameJpaEntity> findShardChunkAfter(@Param("status") GameStatus status,
+                                            @Param("shard") int shard,
+                                            @Param("shardCount") int shardCount,
+                                            @Param("afterId") UUID afterId,
+                                            Limit limit);
+
+    // Subscriptions go with the game through ON DELETE CASCADE
+    @Modifying
+    @Query("DELETE FROM GameJpaEntity g WHERE g.id = :id AND g.userId = :userId")
+    int deleteByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    @Query(value = """
+            UPDATE games SET status = 'RELEASED', updated_at = :now
+            WHERE status = 'UPCOMING' AND tba = false AND release_date < :date
+            RETURNING id
+            """, nativeQuery = true)
+    List<UUID> releaseAllDueBefore(@Param("date") LocalDate date, @Param("now") LocalDateTime now);
 }
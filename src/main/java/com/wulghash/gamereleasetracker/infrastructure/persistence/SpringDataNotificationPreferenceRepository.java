@@ -0,0 +1,6 @@
+package com.wulghash.gamereleasetracker.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+interface SpringDataNotificationPreferenceRepository extends JpaRepository<NotificationPreferenceJpaEntity, String> {
+}
@@ -1,16 +1,41 @@
 package com.wulghash.gamereleasetracker.infrastructure.persistence;
 
+import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 interface SpringDataSubscriptionRepository extends JpaRepository<SubscriptionJpaEntity, UUID> {
 
-    boolean existsByGameIdAndEmail(UUID gameId, String email);
-
     Optional<SubscriptionJpaEntity> findByUnsubscribeToken(UUID unsubscribeToken);
 
     List<SubscriptionJpaEntity> findAllByGameId(UUID gameId);
+
+    @Modifying
+    @Query("DELETE FROM SubscriptionJpaEntity s WHERE s.unsubscribeToken = :token")
+    int deleteByUnsubscribeToken(@Param("token") UUID token);
+
+    @Query("""
+            SELECT new com.wulghash.gamereleasetracker.infrastructure.persistence.NotificationTargetRow(
+                       g, s.email, s.unsubscribeToken)
+            FROM SubscriptionJpaEntity s JOIN GameJpaEntity g ON g.id = s.gameId
+            WHERE g.status = :status AND g.releaseDate = :releaseDate
+              AND mod(g.shardKey, :shardCount) = :shard
+            ORDER BY g.id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<NotificationTargetRow> streamNotificationTargets(@Param("status") GameStatus status,
+                                                            @Param("releaseDate") LocalDate releaseDate,
+                                                            @Param("shard") int shard,
+                                                            @Param("shardCount") int shardCount);
 }
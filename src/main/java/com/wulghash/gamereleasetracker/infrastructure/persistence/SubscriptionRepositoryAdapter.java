@@ -1,38 +1,69 @@
 package com.wulghash.gamereleasetracker.infrastructure.persistence;
 
+import com.wulghash.gamereleasetracker.domain.model.Game;
+import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.JobShard;
+import com.wulghash.gamereleasetracker.domain.model.NotificationTarget;
 import com.wulghash.gamereleasetracker.domain.model.Subscription;
 import com.wulghash.gamereleasetracker.domain.port.out.SubscriptionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
 public class SubscriptionRepositoryAdapter implements SubscriptionRepository {
 
     private final SpringDataSubscriptionRepository jpaRepository;
+    private final NamedParameterJdbcTemplate jdbc;
 
     @Override
-    public Subscription save(Subscription subscription) {
-        return jpaRepository.save(SubscriptionJpaEntity.from(subscription)).toDomain();
+    public Optional<Subscription> findByUnsubscribeToken(UUID token) {
+        return jpaRepository.findByUnsubscribeToken(token).map(SubscriptionJpaEntity::toDomain);
     }
 
     @Override
-    public boolean existsByGameIdAndEmail(UUID gameId, String email) {
-        return jpaRepository.existsByGameIdAndEmail(gameId, email);
+    public void deleteById(UUID id) {
+        jpaRepository.deleteById(id);
     }
 
+    // One round trip: the insert only runs if the game exists, and the conflict on
+    // (game_id, email) turns a duplicate into a no-op that the outcome reports
     @Override
-    public Optional<Subscription> findByUnsubscribeToken(UUID token) {
-        return jpaRepository.findByUnsubscribeToken(token).map(SubscriptionJpaEntity::toDomain);
+    public SubscribeOutcome insert(Subscription subscription) {
+        String outcome = jdbc.queryForObject("""
+                WITH game AS (SELECT id FROM games WHERE id = :gameId),
+                     inserted AS (
+                         INSERT INTO subscriptions (id, game_id, email, unsubscribe_token, created_at)
+                         SELECT CAST(:id AS uuid), id, :email, CAST(:token AS uuid), CAST(:createdAt AS timestamp)
+                         FROM game
+                         ON CONFLICT (game_id, email) DO NOTHING
+                         RETURNING id)
+                SELECT CASE WHEN EXISTS (SELECT 1 FROM inserted) THEN 'INSERTED'
+                            WHEN EXISTS (SELECT 1 FROM game) THEN 'ALREADY_SUBSCRIBED'
+                            ELSE 'GAME_NOT_FOUND' END
+                """, new MapSqlParameterSource()
+                .addValue("id", subscription.getId())
+                .addValue("gameId", subscription.getGameId())
+                .addValue("email", subscription.getEmail())
+                .addValue("token", subscription.getUnsubscribeToken())
+                .addValue("createdAt", subscription.getCreatedAt()), String.class);
+        return SubscribeOutcome.valueOf(outcome);
     }
 
     @Override
-    public void deleteById(UUID id) {
-        jpaRepository.deleteById(id);
+    @Transactional
+    public boolean deleteByUnsubscribeToken(UUID token) {
+        return jpaRepository.deleteByUnsubscribeToken(token) > 0;
     }
 
     @Override
@@ -41,4 +72,27 @@ public class SubscriptionRepositoryAdapter implements SubscriptionRepository {
                 .map(SubscriptionJpaEntity::toDomain)
                 .toList();
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachNotificationTarget(GameStatus status, LocalDate releaseDate, JobShard shard,
+                                          Consumer<NotificationTarget> action) {
+        try (Stream<NotificationTargetRow> rows = jpaRepository.streamNotificationTargets(
+                status, releaseDate, shard.getIndex(), shard.getCount())) {
+            // Rows are ordered by game, so each game is mapped to the domain once
+            GameJpaEntity currentEntity = null;
+            Game currentGame = null;
+            for (NotificationTargetRow row : (Iterable<NotificationTargetRow>) rows::iterator) {
+                if (row.game() != currentEntity) {
+                    currentEntity = row.game();
+                    currentGame = currentEntity.toDomain();
+                }
+                action.accept(NotificationTarget.builder()
+                        .game(currentGame)
+                        .email(row.email())
+                        .unsubscribeToken(row.unsubscribeToken())
+                        .build());
+            }
+        }
+    }
 }
@@ -8,10 +8,16 @@ import com.wulghash.gamereleasetracker.infrastructure.web.dto.BacklogUpdateReque
 import com.wulghash.gamereleasetracker.infrastructure.web.security.AppUserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,16 +26,27 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BacklogController {
 
+    // Each has a (user_id, column, id) index; sorting by anything else would sort the whole backlog
+    private static final List<String> SORTABLE = List.of("releaseDate", "rating", "updatedAt");
+
     private final BacklogUseCase backlogUseCase;
 
     @GetMapping
-    public List<BacklogEntryResponse> list(
+    public Page<BacklogEntryResponse> list(
             @RequestParam(required = false) BacklogStatus status,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @PageableDefault(size = 20, sort = "updatedAt", direction = Sort.Direction.DESC) Pageable pageable,
             @AuthenticationPrincipal AppUserPrincipal principal
     ) {
-        return backlogUseCase.list(principal.getUserId(), status).stream()
-                .map(BacklogEntryResponse::from)
-                .toList();
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                throw new UnsupportedSortException(order.getProperty(), SORTABLE);
+            }
+        }
+        return backlogUseCase.list(principal.getUserId(), status, name, from, to, pageable)
+                .map(BacklogEntryResponse::from);
     }
 
     @PostMapping
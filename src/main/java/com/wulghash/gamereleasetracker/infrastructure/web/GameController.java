@@ -1,16 +1,20 @@
 package com.wulghash.gamereleasetracker.infrastructure.web;
 
+import com.wulghash.gamereleasetracker.domain.model.GameCursor;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.GameView;
 import com.wulghash.gamereleasetracker.domain.model.Platform;
 import com.wulghash.gamereleasetracker.domain.port.in.GameUseCase;
 import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameRequest;
 import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameResponse;
+import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameSliceResponse;
 import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameStatusRequest;
 import com.wulghash.gamereleasetracker.infrastructure.web.security.AppUserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -19,6 +23,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -26,6 +31,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class GameController {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final GameUseCase gameUseCase;
 
     @PostMapping
@@ -54,6 +61,26 @@ public class GameController {
                 .map(GameResponse::from);
     }
 
+    // Cursor mode, selected by the after parameter (empty for the first page): ordered by release
+    // date then id, no total count, and the same cost for every page
+    @GetMapping(params = "after")
+    public GameSliceResponse listAfter(
+            @RequestParam(required = false) Platform platform,
+            @RequestParam(required = false) GameStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal AppUserPrincipal principal
+    ) {
+        int limit = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        Slice<GameView> slice = gameUseCase.listAfter(principal.getUserId(), platform, status, from, to,
+                GameCursorCodec.decode(after), limit);
+        List<GameView> games = slice.getContent();
+        String next = slice.hasNext() ? GameCursorCodec.encode(GameCursor.of(games.get(games.size() - 1))) : null;
+        return new GameSliceResponse(games.stream().map(GameResponse::from).toList(), next);
+    }
+
     @PutMapping("/{id}")
     public GameResponse update(@PathVariable UUID id,
                                @Valid @RequestBody GameRequest request,
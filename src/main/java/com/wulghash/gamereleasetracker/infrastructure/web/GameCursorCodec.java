@@ -0,0 +1,33 @@
+package com.wulghash.gamereleasetracker.infrastructure.web;
+
+import com.wulghash.gamereleasetracker.domain.model.GameCursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.UUID;
+
+/** Opaque cursor tokens for the games list: base64url of {@code releaseDate|id}. An empty token means the first page. */
+final class GameCursorCodec {
+
+    private GameCursorCodec() {}
+
+    static String encode(GameCursor cursor) {
+        String raw = cursor.getReleaseDate() + "|" + cursor.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static GameCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return GameCursor.builder()
+                    .releaseDate(LocalDate.parse(raw.substring(0, separator)))
+                    .id(UUID.fromString(raw.substring(separator + 1)))
+                    .build();
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
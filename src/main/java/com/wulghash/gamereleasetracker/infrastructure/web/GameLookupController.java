@@ -1,6 +1,6 @@
 package com.wulghash.gamereleasetracker.infrastructure.web;
 
-import com.wulghash.gamereleasetracker.infrastructure.igdb.IgdbClient;
+import com.wulghash.gamereleasetracker.infrastructure.igdb.IgdbLookupCache;
 import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameLookupDetail;
 import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameLookupResult;
 import org.springframework.http.ResponseEntity;
@@ -12,20 +12,20 @@ import java.util.List;
 @RequestMapping("/api/v1/games/lookup")
 public class GameLookupController {
 
-    private final IgdbClient igdbClient;
+    private final IgdbLookupCache lookupCache;
 
-    public GameLookupController(IgdbClient igdbClient) {
-        this.igdbClient = igdbClient;
+    public GameLookupController(IgdbLookupCache lookupCache) {
+        this.lookupCache = lookupCache;
     }
 
     @GetMapping
     public List<GameLookupResult> search(@RequestParam String q) {
-        return igdbClient.search(q);
+        return lookupCache.search(q);
     }
 
     @GetMapping("/{igdbId}")
     public ResponseEntity<GameLookupDetail> detail(@PathVariable long igdbId) {
-        GameLookupDetail detail = igdbClient.getDetail(igdbId);
+        GameLookupDetail detail = lookupCache.getDetail(igdbId);
         return detail != null ? ResponseEntity.ok(detail) : ResponseEntity.notFound().build();
     }
 }
@@ -3,6 +3,7 @@ package com.wulghash.gamereleasetracker.infrastructure.web;
 import com.wulghash.gamereleasetracker.domain.model.BacklogEntryNotFoundException;
 import com.wulghash.gamereleasetracker.domain.model.GameAlreadyInBacklogException;
 import com.wulghash.gamereleasetracker.domain.model.GameAlreadySubscribedException;
+import com.wulghash.gamereleasetracker.domain.model.GameLookupUnavailableException;
 import com.wulghash.gamereleasetracker.domain.model.GameNotFoundException;
 import com.wulghash.gamereleasetracker.domain.model.InvalidStatusTransitionException;
 import com.wulghash.gamereleasetracker.domain.model.SubscriptionNotFoundException;
@@ -37,6 +38,18 @@ class GlobalExceptionHandler {
         return Map.of("message", ex.getMessage());
     }
 
+    @ExceptionHandler(GameLookupUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    Map<String, String> handleLookupUnavailable(GameLookupUnavailableException ex) {
+        return Map.of("message", ex.getMessage());
+    }
+
+    @ExceptionHandler({InvalidCursorException.class, UnsupportedSortException.class})
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    Map<String, String> handleInvalidQuery(RuntimeException ex) {
+        return Map.of("message", ex.getMessage());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     Map<String, Object> handleValidation(MethodArgumentNotValidException ex) {
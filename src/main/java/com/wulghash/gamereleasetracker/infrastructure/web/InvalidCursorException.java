@@ -0,0 +1,8 @@
+package com.wulghash.gamereleasetracker.infrastructure.web;
+
+class InvalidCursorException extends RuntimeException {
+
+    InvalidCursorException(String token) {
+        super("Invalid cursor: " + token);
+    }
+}
@@ -1,6 +1,7 @@
 package com.wulghash.gamereleasetracker.infrastructure.web;
 
 import com.wulghash.gamereleasetracker.domain.port.in.SubscriptionUseCase;
+import com.wulghash.gamereleasetracker.infrastructure.web.dto.DigestPreferenceRequest;
 import com.wulghash.gamereleasetracker.infrastructure.web.dto.SubscribeRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,4 +26,10 @@ public class SubscriptionController {
     public void unsubscribe(@PathVariable UUID token) {
         subscriptionUseCase.unsubscribe(token);
     }
+
+    @PutMapping("/api/v1/subscriptions/{token}/digest")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void setDigestMode(@PathVariable UUID token, @Valid @RequestBody DigestPreferenceRequest request) {
+        subscriptionUseCase.setDigestMode(token, request.enabled());
+    }
 }
@@ -0,0 +1,10 @@
+package com.wulghash.gamereleasetracker.infrastructure.web;
+
+import java.util.Collection;
+
+class UnsupportedSortException extends RuntimeException {
+
+    UnsupportedSortException(String property, Collection<String> supported) {
+        super("Cannot sort by " + property + "; supported: " + String.join(", ", supported));
+    }
+}
@@ -1,6 +1,7 @@
 package com.wulghash.gamereleasetracker.infrastructure.web.dto;
 
 import com.wulghash.gamereleasetracker.domain.model.BacklogEntry;
+import com.wulghash.gamereleasetracker.domain.model.BacklogEntryView;
 import com.wulghash.gamereleasetracker.domain.model.BacklogStatus;
 
 import java.time.LocalDate;
@@ -37,4 +38,21 @@ public record BacklogEntryResponse(
                 entry.getUpdatedAt()
         );
     }
+
+    public static BacklogEntryResponse from(BacklogEntryView entry) {
+        return new BacklogEntryResponse(
+                entry.id(),
+                entry.userId(),
+                entry.igdbId(),
+                entry.name(),
+                entry.coverUrl(),
+                entry.releaseDate(),
+                entry.backlogStatus(),
+                entry.igdbScore(),
+                entry.rating(),
+                entry.notes(),
+                entry.createdAt(),
+                entry.updatedAt()
+        );
+    }
 }
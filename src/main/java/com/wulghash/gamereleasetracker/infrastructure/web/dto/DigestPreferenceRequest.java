@@ -0,0 +1,8 @@
+package com.wulghash.gamereleasetracker.infrastructure.web.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record DigestPreferenceRequest(
+        @NotNull(message = "enabled is required")
+        Boolean enabled
+) {}
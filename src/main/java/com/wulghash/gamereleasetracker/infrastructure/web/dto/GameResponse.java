@@ -2,6 +2,7 @@ package com.wulghash.gamereleasetracker.infrastructure.web.dto;
 
 import com.wulghash.gamereleasetracker.domain.model.Game;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.GameView;
 import com.wulghash.gamereleasetracker.domain.model.Platform;
 
 import java.time.LocalDate;
@@ -43,4 +44,23 @@ public record GameResponse(
                 game.getUpdatedAt()
         );
     }
+
+    public static GameResponse from(GameView game) {
+        return new GameResponse(
+                game.id(),
+                game.title(),
+                game.description(),
+                game.releaseDate(),
+                game.platforms(),
+                game.status(),
+                game.shopUrl(),
+                game.imageUrl(),
+                game.developer(),
+                game.publisher(),
+                game.igdbId(),
+                game.tba(),
+                game.createdAt(),
+                game.updatedAt()
+        );
+    }
 }
@@ -0,0 +1,9 @@
+package com.wulghash.gamereleasetracker.infrastructure.web.dto;
+
+import java.util.List;
+
+/** One page of a cursor-paginated list; {@code next} is the cursor for the following page, null on the last one. */
+public record GameSliceResponse(
+        List<GameResponse> content,
+        String next
+) {}
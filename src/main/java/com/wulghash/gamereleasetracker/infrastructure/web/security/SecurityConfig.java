@@ -23,8 +23,11 @@ public class SecurityConfig {
             .csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(a -> a
                 .requestMatchers("/login/oauth2/**", "/oauth2/**").permitAll()
-                .requestMatchers("/api/v1/unsubscribe/**", "/api/v1/games/*/subscribe").permitAll()
+                .requestMatchers("/api/v1/unsubscribe/**", "/api/v1/games/*/subscribe",
+                        "/api/v1/subscriptions/*/digest").permitAll()
                 .requestMatchers("/api/**").authenticated()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").authenticated()
                 .anyRequest().permitAll())
             .oauth2Login(o -> o
                 .userInfoEndpoint(u -> u.userService(oAuth2UserService))
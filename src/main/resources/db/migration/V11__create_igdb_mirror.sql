@@ -0,0 +1,22 @@
+-- Local copy of the IGDB catalog, kept current by delta pulls on IGDB's updated_at
+CREATE TABLE igdb_games (
+    igdb_id            BIGINT       PRIMARY KEY,
+    name               VARCHAR(500) NOT NULL,
+    first_release_date DATE,
+    status             INTEGER,
+    cover_url          VARCHAR(500),
+    platforms          VARCHAR(100),
+    summary            TEXT,
+    developer          VARCHAR(255),
+    publisher          VARCHAR(255),
+    igdb_score         SMALLINT,
+    igdb_updated_at    BIGINT       NOT NULL,
+    synced_at          TIMESTAMP    NOT NULL DEFAULT now()
+);
+CREATE INDEX idx_igdb_games_igdb_updated_at ON igdb_games(igdb_updated_at);
+
+CREATE TABLE igdb_sync_state (
+    name            VARCHAR(50) PRIMARY KEY,
+    high_water_mark BIGINT      NOT NULL,
+    updated_at      TIMESTAMP   NOT NULL DEFAULT now()
+);
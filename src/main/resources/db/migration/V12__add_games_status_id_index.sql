@@ -0,0 +1,2 @@
+-- Supports keyset iteration over games by status (WHERE status = ? AND id > ? ORDER BY id)
+CREATE INDEX idx_games_status_id ON games(status, id);
@@ -0,0 +1,21 @@
+-- E-mails waiting to be delivered. Rows are written in the same transaction as the change that
+-- triggers them and drained by the outbox dispatcher; idempotency_key stops duplicates when a
+-- job or request is retried.
+CREATE TABLE notification_outbox (
+    id              UUID          PRIMARY KEY DEFAULT gen_random_uuid(),
+    idempotency_key VARCHAR(400)  NOT NULL UNIQUE,
+    recipient       VARCHAR(255)  NOT NULL,
+    subject         VARCHAR(500)  NOT NULL,
+    body            TEXT          NOT NULL,
+    status          VARCHAR(20)   NOT NULL DEFAULT 'PENDING',
+    attempts        INTEGER       NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP     NOT NULL DEFAULT now(),
+    last_error      TEXT,
+    created_at      TIMESTAMP     NOT NULL DEFAULT now(),
+    sent_at         TIMESTAMP
+);
+
+CREATE INDEX idx_notification_outbox_pending ON notification_outbox(next_attempt_at)
+    WHERE status = 'PENDING';
+CREATE INDEX idx_notification_outbox_sent_at ON notification_outbox(sent_at)
+    WHERE status = 'SENT';
@@ -0,0 +1,15 @@
+-- Per-recipient delivery preferences. Subscriptions are keyed by e-mail, so preferences are too.
+CREATE TABLE notification_preferences (
+    email          VARCHAR(255) PRIMARY KEY,
+    digest_enabled BOOLEAN      NOT NULL DEFAULT false,
+    updated_at     TIMESTAMP    NOT NULL DEFAULT now()
+);
+
+-- Digest recipients' e-mails wait as HELD until they are folded into one digest message
+CREATE INDEX idx_notification_outbox_held ON notification_outbox(recipient, created_at)
+    WHERE status = 'HELD';
+
+-- Digested rows are purged alongside sent ones
+DROP INDEX idx_notification_outbox_sent_at;
+CREATE INDEX idx_notification_outbox_sent_at ON notification_outbox(sent_at)
+    WHERE status IN ('SENT', 'DIGESTED');
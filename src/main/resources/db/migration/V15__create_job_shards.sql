@@ -0,0 +1,23 @@
+-- Replicas announce themselves here; a node is live while its heartbeat is recent
+CREATE TABLE job_nodes (
+    node_id      VARCHAR(255) PRIMARY KEY,
+    heartbeat_at TIMESTAMP    NOT NULL
+);
+
+-- One row per (job, shard). A node owns a shard for one run while its lease is valid;
+-- an expired lease on an unfinished shard lets another node take it over.
+CREATE TABLE job_shards (
+    job_name     VARCHAR(100) NOT NULL,
+    shard        INT          NOT NULL,
+    run_key      VARCHAR(100),
+    owner        VARCHAR(255),
+    lease_until  TIMESTAMP,
+    completed_at TIMESTAMP,
+    PRIMARY KEY (job_name, shard)
+);
+
+-- Fixed bucket (0-1023) taken from the leading bits of the random game id; jobs take it modulo
+-- their shard count. Must match JobShard.keyOf.
+ALTER TABLE games ADD COLUMN shard_key INT;
+UPDATE games SET shard_key = ('x' || substr(id::text, 1, 8))::bit(32)::bigint % 1024;
+ALTER TABLE games ALTER COLUMN shard_key SET NOT NULL;
@@ -0,0 +1,15 @@
+-- Progress of a shard within its current run: the last game id it finished and how many games that covers
+ALTER TABLE job_shards
+    ADD COLUMN last_id       UUID,
+    ADD COLUMN processed     INT NOT NULL DEFAULT 0,
+    ADD COLUMN checkpoint_at TIMESTAMP;
+
+-- One row per job run (e.g. one per day); completed_at is set once every shard of the run is done
+CREATE TABLE job_runs (
+    job_name     VARCHAR(100) NOT NULL,
+    run_key      VARCHAR(100) NOT NULL,
+    started_at   TIMESTAMP    NOT NULL DEFAULT now(),
+    completed_at TIMESTAMP,
+    processed    INT,
+    PRIMARY KEY (job_name, run_key)
+);
@@ -0,0 +1,4 @@
+-- Serves cursor pagination of a user's library: the cursor becomes an index range start
+-- instead of an OFFSET. Also covers lookups by user_id alone.
+CREATE INDEX idx_games_user_release_date_id ON games(user_id, release_date, id);
+DROP INDEX idx_games_user_id;
@@ -0,0 +1,21 @@
+-- Platforms move from the game_platforms join table to a bitmask on games, so loading a game
+-- needs no secondary select. Bit n is Platform ordinal n: PC=1, PS5=2, XBOX=4, SWITCH=8.
+ALTER TABLE games ADD COLUMN platform_mask SMALLINT NOT NULL DEFAULT 0;
+
+UPDATE games g
+SET platform_mask = p.mask
+FROM (
+    SELECT game_id,
+           bit_or(CASE platform
+                      WHEN 'PC'     THEN 1
+                      WHEN 'PS5'    THEN 2
+                      WHEN 'XBOX'   THEN 4
+                      WHEN 'SWITCH' THEN 8
+                      ELSE 0
+                  END)::smallint AS mask
+    FROM game_platforms
+    GROUP BY game_id
+) p
+WHERE g.id = p.game_id;
+
+DROP TABLE game_platforms;
@@ -0,0 +1,12 @@
+-- Backlog lists are always scoped to one user and sorted by one of these columns, with id as
+-- tie-break. Each index returns a page in order without sorting the whole backlog; the
+-- release_date one also serves release-date range filters.
+CREATE INDEX idx_backlog_entries_user_updated_at ON backlog_entries(user_id, updated_at, id);
+CREATE INDEX idx_backlog_entries_user_release_date ON backlog_entries(user_id, release_date, id);
+CREATE INDEX idx_backlog_entries_user_rating ON backlog_entries(user_id, rating, id);
+
+-- Case-insensitive name prefix search: lower(name) LIKE 'prefix%'
+CREATE INDEX idx_backlog_entries_user_name_prefix ON backlog_entries(user_id, lower(name) text_pattern_ops);
+
+-- Every index above starts with user_id, as does the (user_id, igdb_id) unique constraint
+DROP INDEX idx_backlog_entries_user_id;
@@ -0,0 +1,18 @@
+-- Library lists filtered by status (the games page always asks for UPCOMING) read one
+-- (user, status) range already ordered by release date, then id for the cursor mode
+CREATE INDEX idx_games_user_status_release_date ON games(user_id, status, release_date, id);
+
+-- Schedulers only look at upcoming games by release date: release-day and release-soon
+-- notifications (release_date = ?) and the daily release job (release_date < ?). Released and
+-- cancelled games pile up over time but stay out of this index.
+CREATE INDEX idx_games_upcoming_release_date ON games(release_date) WHERE status = 'UPCOMING';
+
+-- Superseded by the two above; nothing filters on release_date alone
+DROP INDEX idx_games_release_date;
+
+-- Duplicates of indexes Postgres already builds for constraints: uq_subscription_game_email
+-- (game_id, email) leads with game_id, so it serves subscriber lists per game, the notification
+-- join and the cascade from games, and both unique columns have their own index
+DROP INDEX idx_subscriptions_game_id;
+DROP INDEX idx_subscriptions_unsubscribe_token;
+DROP INDEX idx_app_users_google_id;
@@ -0,0 +1,3 @@
+-- Day of the last catalog pull that finished. Cleared when a pull starts and left empty if it
+-- fails, so every replica can tell whether the copy is current instead of trusting its own memory.
+ALTER TABLE igdb_sync_state ADD COLUMN current_as_of DATE;
@@ -3,6 +3,7 @@ package com.wulghash.gamereleasetracker.application.service;
 import com.wulghash.gamereleasetracker.domain.model.Game;
 import com.wulghash.gamereleasetracker.domain.model.GameNotFoundException;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.GameView;
 import com.wulghash.gamereleasetracker.domain.model.InvalidStatusTransitionException;
 import com.wulghash.gamereleasetracker.domain.model.Platform;
 import com.wulghash.gamereleasetracker.domain.model.Subscription;
@@ -64,13 +65,13 @@ class GameServiceTest {
                 null, null, "FromSoftware", null, null, false);
 
         Game savedGame = buildGame(UUID.randomUUID(), "Elden Ring 2", GameStatus.UPCOMING);
-        when(gameRepository.save(any(Game.class))).thenReturn(savedGame);
+        when(gameRepository.insert(any(Game.class))).thenReturn(savedGame);
 
         Game result = gameService.create(USER_ID, cmd);
 
         assertThat(result.getTitle()).isEqualTo("Elden Ring 2");
         ArgumentCaptor<Game> captor = ArgumentCaptor.forClass(Game.class);
-        verify(gameRepository).save(captor.capture());
+        verify(gameRepository).insert(captor.capture());
         assertThat(captor.getValue().getTitle()).isEqualTo("Elden Ring 2");
         assertThat(captor.getValue().getId()).isNotNull();
         assertThat(captor.getValue().getStatus()).isEqualTo(GameStatus.UPCOMING);
@@ -102,14 +103,17 @@ class GameServiceTest {
     @Test
     void listShouldReturnPagedGames() {
         PageRequest pageable = PageRequest.of(0, 10);
-        List<Game> games = List.of(
-                buildGame(UUID.randomUUID(), "Game A", GameStatus.UPCOMING),
-                buildGame(UUID.randomUUID(), "Game B", GameStatus.UPCOMING)
+        LocalDateTime now = LocalDateTime.now();
+        List<GameView> games = List.of(
+                new GameView(UUID.randomUUID(), "Game A", null, LocalDate.of(2026, 6, 15), Set.of(Platform.PC),
+                        GameStatus.UPCOMING, null, null, null, null, null, false, now, now),
+                new GameView(UUID.randomUUID(), "Game B", null, LocalDate.of(2026, 7, 15), Set.of(Platform.PS5),
+                        GameStatus.UPCOMING, null, null, null, null, null, false, now, now)
         );
         when(gameRepository.findAll(USER_ID, null, null, null, null, pageable))
                 .thenReturn(new PageImpl<>(games, pageable, 2));
 
-        Page<Game> result = gameService.list(USER_ID, null, null, null, null, pageable);
+        Page<GameView> result = gameService.list(USER_ID, null, null, null, null, pageable);
 
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getTotalElements()).isEqualTo(2);
@@ -222,7 +226,7 @@ class GameServiceTest {
     @Test
     void deleteShouldDelegateToRepository() {
         UUID id = UUID.randomUUID();
-        when(gameRepository.existsById(id, USER_ID)).thenReturn(true);
+        when(gameRepository.deleteById(id, USER_ID)).thenReturn(true);
 
         gameService.delete(id, USER_ID);
 
@@ -232,7 +236,7 @@ class GameServiceTest {
     @Test
     void deleteShouldThrowWhenGameNotFound() {
         UUID id = UUID.randomUUID();
-        when(gameRepository.existsById(id, USER_ID)).thenReturn(false);
+        when(gameRepository.deleteById(id, USER_ID)).thenReturn(false);
 
         assertThatThrownBy(() -> gameService.delete(id, USER_ID))
                 .isInstanceOf(GameNotFoundException.class);
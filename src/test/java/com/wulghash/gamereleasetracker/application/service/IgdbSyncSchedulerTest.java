@@ -0,0 +1,287 @@
+package com.wulghash.gamereleasetracker.application.service;
+
+import com.wulghash.gamereleasetracker.domain.model.*;
+import com.wulghash.gamereleasetracker.domain.port.out.GameLookupPort;
+import com.wulghash.gamereleasetracker.domain.port.out.JobLeaseRepository;
+import com.wulghash.gamereleasetracker.domain.port.out.GameRepository;
+import com.wulghash.gamereleasetracker.domain.port.out.SubscriptionRepository;
+import com.wulghash.gamereleasetracker.infrastructure.mail.EmailNotificationService;
+import com.wulghash.gamereleasetracker.infrastructure.mail.RenderedNotification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IgdbSyncSchedulerTest {
+
+    private static final JobShard SHARD = JobShard.of(0, 1);
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private SubscriptionRepository subscriptionRepository;
+
+    @Mock
+    private GameLookupPort gameLookupPort;
+
+    @Mock
+    private EmailNotificationService emailNotificationService;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Mock
+    private ShardedJobRunner jobRunner;
+
+    private final JobLeaseRepository jobLeases = mock(JobLeaseRepository.class);
+    private UUID resumeAfter;
+
+    @Spy
+    private JobCalendar jobCalendar = new JobCalendar(
+            Clock.fixed(TODAY.atTime(3, 0).atZone(ZoneId.of(JobCalendar.ZONE)).toInstant(), ZoneOffset.UTC));
+
+    @InjectMocks
+    private IgdbSyncScheduler scheduler;
+
+    @BeforeEach
+    void runAsOnlyNode() {
+        when(jobRunner.run(eq(IgdbSyncScheduler.JOB_NAME), eq(TODAY.toString()), any())).thenAnswer(invocation -> {
+            Consumer<ShardRun> work = invocation.getArgument(2);
+            work.accept(new ShardRun(jobLeases, invocation.getArgument(0), "node-a", SHARD, resumeAfter, 0));
+            return 1;
+        });
+        lenient().when(jobRunner.runOnce(eq(IgdbSyncScheduler.MIRROR_JOB_NAME), eq(TODAY.toString()), any()))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(2).run();
+                    return true;
+                });
+    }
+
+    @Test
+    void shouldLookUpAllIgdbGamesInOneBatch() {
+        LocalDate future = TODAY.plusMonths(2);
+        Game first = buildGame("Hades 3", future, 101L);
+        Game second = buildGame("Silksong", future, 102L);
+        Game manual = buildGame("Manual Entry", future, null);
+
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, null, 500)).thenReturn(List.of(first, second, manual));
+        when(gameLookupPort.isAvailable()).thenReturn(true);
+        when(gameLookupPort.findReleaseDatesByIgdbIds(anyCollection(), eq(TODAY))).thenReturn(Map.of());
+
+        scheduler.syncUpcomingGames();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Long>> ids = ArgumentCaptor.forClass(List.class);
+        InOrder inOrder = inOrder(gameLookupPort);
+        inOrder.verify(gameLookupPort).refreshLocalCatalog(TODAY);
+        inOrder.verify(gameLookupPort).findReleaseDatesByIgdbIds(ids.capture(), eq(TODAY));
+        assertThat(ids.getValue()).containsExactlyInAnyOrder(101L, 102L);
+        verify(gameRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldUpdateDateAndNotifySubscribersWhenIgdbDateChanged() {
+        LocalDate oldDate = TODAY.plusMonths(2);
+        LocalDate newDate = oldDate.plusWeeks(3);
+        Game game = buildGame("Hades 3", oldDate, 101L);
+        Subscription sub = Subscription.builder()
+                .id(UUID.randomUUID()).gameId(game.getId()).email("player@example.com")
+                .unsubscribeToken(UUID.randomUUID()).createdAt(LocalDateTime.now())
+                .build();
+
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, null, 500)).thenReturn(List.of(game));
+        when(gameLookupPort.isAvailable()).thenReturn(true);
+        when(gameLookupPort.findReleaseDatesByIgdbIds(anyCollection(), eq(TODAY))).thenReturn(Map.of(101L, newDate));
+        when(subscriptionRepository.findAllByGameId(game.getId())).thenReturn(List.of(sub));
+        RenderedNotification rendered = new RenderedNotification("date-changed", "Subject", "Unsubscribe: /", "\n");
+        when(emailNotificationService.renderDateChanged(any(Game.class), eq(oldDate))).thenReturn(rendered);
+
+        scheduler.syncUpcomingGames();
+
+        ArgumentCaptor<Game> saved = ArgumentCaptor.forClass(Game.class);
+        verify(gameRepository).save(saved.capture());
+        assertThat(saved.getValue().getReleaseDate()).isEqualTo(newDate);
+        verify(emailNotificationService).send(rendered, "player@example.com", sub.getUnsubscribeToken());
+    }
+
+    @Test
+    void shouldLeaveCatalogPullToTheNodeThatClaimedIt() {
+        Game game = buildGame("Hades 3", TODAY.plusMonths(2), 101L);
+
+        when(jobRunner.runOnce(eq(IgdbSyncScheduler.MIRROR_JOB_NAME), any(), any())).thenReturn(false);
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, null, 500)).thenReturn(List.of(game));
+        when(gameLookupPort.isAvailable()).thenReturn(true);
+        when(gameLookupPort.findReleaseDatesByIgdbIds(anyCollection(), eq(TODAY))).thenReturn(Map.of());
+
+        scheduler.syncUpcomingGames();
+
+        verify(gameLookupPort, never()).refreshLocalCatalog(any());
+        verify(gameLookupPort).findReleaseDatesByIgdbIds(anyCollection(), eq(TODAY));
+    }
+
+    @Test
+    void shouldAutoReleasePastDueGamesInOneBulkUpdate() {
+        when(gameRepository.releaseAllDueBefore(TODAY)).thenReturn(List.of(UUID.randomUUID()));
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, null, 500)).thenReturn(List.of());
+
+        scheduler.syncUpcomingGames();
+
+        verify(gameRepository).releaseAllDueBefore(TODAY);
+        verify(gameRepository, never()).save(any());
+        verifyNoInteractions(gameLookupPort);
+    }
+
+    @Test
+    void shouldLeaveShardUnfinishedWhenLookupIsUnavailable() {
+        Game game = buildGame("Hades 3", TODAY.plusMonths(2), 101L);
+
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, null, 500)).thenReturn(List.of(game));
+        when(gameLookupPort.isAvailable()).thenReturn(false);
+
+        assertThatThrownBy(scheduler::syncUpcomingGames).isInstanceOf(GameLookupUnavailableException.class);
+
+        verify(gameLookupPort, never()).refreshLocalCatalog(any());
+        verify(gameLookupPort, never()).findReleaseDatesByIgdbIds(anyCollection(), eq(TODAY));
+        verify(gameRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldWalkUpcomingGamesInKeysetChunks() {
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 2);
+        LocalDate future = TODAY.plusMonths(2);
+        Game first = buildGame("Hades 3", future, null);
+        Game second = buildGame("Silksong", future, null);
+        Game third = buildGame("Manual Entry", future, null);
+
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, null, 2)).thenReturn(List.of(first, second));
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, second.getId(), 2)).thenReturn(List.of(third));
+
+        scheduler.syncUpcomingGames();
+
+        verify(gameRepository, times(2)).findChunkByStatus(eq(GameStatus.UPCOMING), eq(SHARD), any(), eq(2));
+        verifyNoInteractions(gameLookupPort);
+    }
+
+    @Test
+    void shouldCheckpointShardAfterEachFinishedChunk() {
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 2);
+        LocalDate future = TODAY.plusMonths(2);
+        Game first = buildGame("Hades 3", future, null);
+        Game second = buildGame("Silksong", future, null);
+        Game third = buildGame("Manual Entry", future, null);
+
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, null, 2)).thenReturn(List.of(first, second));
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, second.getId(), 2)).thenReturn(List.of(third));
+
+        scheduler.syncUpcomingGames();
+
+        InOrder inOrder = inOrder(jobLeases);
+        inOrder.verify(jobLeases).saveCheckpoint(IgdbSyncScheduler.JOB_NAME, 0, "node-a", second.getId(), 2);
+        inOrder.verify(jobLeases).saveCheckpoint(IgdbSyncScheduler.JOB_NAME, 0, "node-a", third.getId(), 3);
+    }
+
+    @Test
+    void shouldResumeInterruptedShardAfterItsCheckpoint() {
+        resumeAfter = UUID.randomUUID();
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, resumeAfter, 500)).thenReturn(List.of());
+
+        scheduler.syncUpcomingGames();
+
+        verify(gameRepository, never()).findChunkByStatus(GameStatus.UPCOMING, SHARD, null, 500);
+    }
+
+    @Test
+    void shouldRetryFailedChunkOnItsOwn() {
+        ReflectionTestUtils.setField(scheduler, "retryBackoff", Duration.ZERO);
+        LocalDate oldDate = TODAY.plusMonths(2);
+        Game game = buildGame("Hades 3", oldDate, 101L);
+
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, null, 500)).thenReturn(List.of(game));
+        when(gameLookupPort.isAvailable()).thenReturn(true);
+        when(gameLookupPort.findReleaseDatesByIgdbIds(anyCollection(), eq(TODAY)))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(Map.of(101L, oldDate.plusDays(1)));
+
+        scheduler.syncUpcomingGames();
+
+        verify(gameLookupPort, times(2)).findReleaseDatesByIgdbIds(anyCollection(), eq(TODAY));
+        verify(gameRepository).save(any(Game.class));
+    }
+
+    @Test
+    void shouldNotCheckpointPastAChunkThatKeepsFailing() {
+        ReflectionTestUtils.setField(scheduler, "chunkSize", 1);
+        ReflectionTestUtils.setField(scheduler, "retryBackoff", Duration.ZERO);
+        LocalDate future = TODAY.plusMonths(2);
+        Game first = buildGame("Hades 3", future, 101L);
+        Game failing = buildGame("Silksong", future, 102L);
+        Game third = buildGame("Manual Entry", future, 103L);
+
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, null, 1)).thenReturn(List.of(first));
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, first.getId(), 1)).thenReturn(List.of(failing));
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, failing.getId(), 1)).thenReturn(List.of(third));
+        when(gameLookupPort.isAvailable()).thenReturn(true);
+        when(gameLookupPort.findReleaseDatesByIgdbIds(anyCollection(), eq(TODAY))).thenAnswer(invocation -> {
+            if (invocation.<Collection<Long>>getArgument(0).contains(102L)) throw new IllegalStateException("502 Bad Gateway");
+            return Map.of();
+        });
+
+        assertThatThrownBy(scheduler::syncUpcomingGames).hasMessageContaining("chunk failed");
+
+        verify(jobLeases).saveCheckpoint(IgdbSyncScheduler.JOB_NAME, 0, "node-a", first.getId(), 1);
+        verify(jobLeases, never()).saveCheckpoint(eq(IgdbSyncScheduler.JOB_NAME), eq(0), eq("node-a"), eq(failing.getId()), anyInt());
+        verify(jobLeases, never()).saveCheckpoint(eq(IgdbSyncScheduler.JOB_NAME), eq(0), eq("node-a"), eq(third.getId()), anyInt());
+    }
+
+    @Test
+    void shouldFailShardWhenCircuitOpensMidRun() {
+        Game game = buildGame("Hades 3", TODAY.plusMonths(2), 101L);
+
+        when(gameRepository.findChunkByStatus(GameStatus.UPCOMING, SHARD, null, 500)).thenReturn(List.of(game));
+        when(gameLookupPort.isAvailable()).thenReturn(true);
+        when(gameLookupPort.findReleaseDatesByIgdbIds(anyCollection(), eq(TODAY)))
+                .thenThrow(new GameLookupUnavailableException("IGDB circuit is open"));
+
+        assertThatThrownBy(scheduler::syncUpcomingGames).hasMessageContaining("chunk failed");
+
+        verify(gameLookupPort, times(1)).findReleaseDatesByIgdbIds(anyCollection(), eq(TODAY));
+        verify(jobLeases, never()).saveCheckpoint(any(), anyInt(), any(), any(), anyInt());
+    }
+
+    private Game buildGame(String title, LocalDate releaseDate, Long igdbId) {
+        return Game.builder()
+                .id(UUID.randomUUID()).title(title).releaseDate(releaseDate)
+                .platforms(Set.of(Platform.PC)).status(GameStatus.UPCOMING).igdbId(igdbId)
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,172 @@
+package com.wulghash.gamereleasetracker.application.service;
+
+import com.wulghash.gamereleasetracker.domain.model.Game;
+import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.JobCheckpoint;
+import com.wulghash.gamereleasetracker.domain.model.JobShard;
+import com.wulghash.gamereleasetracker.domain.model.Platform;
+import com.wulghash.gamereleasetracker.domain.port.out.GameLookupPort;
+import com.wulghash.gamereleasetracker.domain.port.out.GameRepository;
+import com.wulghash.gamereleasetracker.domain.port.out.JobLeaseRepository;
+import com.wulghash.gamereleasetracker.domain.port.out.SubscriptionRepository;
+import com.wulghash.gamereleasetracker.infrastructure.mail.EmailNotificationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MissedJobCatchUpTest {
+
+    private static final ZoneId WARSAW = ZoneId.of("Europe/Warsaw");
+    private static final ZonedDateTime DAY = ZonedDateTime.of(2026, 10, 17, 0, 0, 0, 0, WARSAW);
+    private static final String RUN_KEY = "2026-10-17";
+    private static final JobCalendar AT_3_30 = new JobCalendar(Clock.fixed(DAY.withHour(3).withMinute(30).toInstant(), WARSAW));
+
+    @Mock
+    private ShardedJobRunner jobRunner;
+
+    @Mock
+    private IgdbSyncScheduler igdbSyncScheduler;
+
+    @Mock
+    private NotificationScheduler notificationScheduler;
+
+    @Spy
+    private JobCalendar jobCalendar = new JobCalendar();
+
+    @InjectMocks
+    private MissedJobCatchUp catchUp;
+
+    @Test
+    void shouldRunJobsThatWereDueButNeverCompleted() {
+        when(jobRunner.isCompleted(IgdbSyncScheduler.JOB_NAME, RUN_KEY)).thenReturn(true);
+        when(jobRunner.isCompleted(NotificationScheduler.RELEASE_TODAY_JOB, RUN_KEY)).thenReturn(false);
+        when(jobRunner.isCompleted(NotificationScheduler.RELEASE_SOON_JOB, RUN_KEY)).thenReturn(true);
+
+        catchUp.catchUp(DAY.withHour(11));
+
+        verify(notificationScheduler).sendReleaseNotifications();
+        verify(notificationScheduler, never()).sendWeeklyReminders();
+        verifyNoInteractions(igdbSyncScheduler);
+    }
+
+    @Test
+    void shouldNotRunJobsBeforeTheirScheduledTime() {
+        when(jobRunner.isCompleted(eq(IgdbSyncScheduler.JOB_NAME), anyString())).thenReturn(true);
+
+        catchUp.catchUp(DAY.withHour(8));
+
+        verify(jobRunner, never()).isCompleted(eq(NotificationScheduler.RELEASE_TODAY_JOB), anyString());
+        verifyNoInteractions(notificationScheduler, igdbSyncScheduler);
+    }
+
+    @Test
+    void shouldKeyTheRunByTheGivenDayNotTheWallClock() {
+        ZonedDateTime lateEvening = ZonedDateTime.of(2026, 12, 31, 23, 30, 0, 0, WARSAW);
+        when(jobRunner.isCompleted(eq(IgdbSyncScheduler.JOB_NAME), anyString())).thenReturn(true);
+        when(jobRunner.isCompleted(eq(NotificationScheduler.RELEASE_TODAY_JOB), anyString())).thenReturn(true);
+        when(jobRunner.isCompleted(eq(NotificationScheduler.RELEASE_SOON_JOB), anyString())).thenReturn(true);
+
+        catchUp.catchUp(lateEvening);
+
+        verify(jobRunner).isCompleted(IgdbSyncScheduler.JOB_NAME, "2026-12-31");
+    }
+
+    @Test
+    void shouldFindTheRunsTheJobsRecordedWhenTheJvmDateIsAlreadyTomorrow() {
+        // 12:30 on the 17th in Warsaw, but already past midnight into the 18th at UTC+14
+        JobCalendar calendar = new JobCalendar(Clock.fixed(Instant.parse("2026-10-17T10:30:00Z"), ZoneOffset.ofHours(14)));
+        GameRepository games = mock(GameRepository.class);
+        when(games.releaseAllDueBefore(any())).thenReturn(List.of());
+        new IgdbSyncScheduler(games, mock(SubscriptionRepository.class), mock(GameLookupPort.class),
+                mock(EmailNotificationService.class), TransactionOperations.withoutTransaction(), jobRunner, calendar)
+                .syncUpcomingGames();
+        new NotificationScheduler(mock(SubscriptionRepository.class), mock(EmailNotificationService.class), jobRunner,
+                TransactionOperations.withoutTransaction(), calendar)
+                .sendReleaseNotifications();
+        verify(jobRunner).run(eq(IgdbSyncScheduler.JOB_NAME), eq(RUN_KEY), any());
+        verify(jobRunner).run(eq(NotificationScheduler.RELEASE_TODAY_JOB), eq(RUN_KEY), any());
+
+        when(jobRunner.isCompleted(IgdbSyncScheduler.JOB_NAME, RUN_KEY)).thenReturn(true);
+        when(jobRunner.isCompleted(NotificationScheduler.RELEASE_TODAY_JOB, RUN_KEY)).thenReturn(true);
+        when(jobRunner.isCompleted(NotificationScheduler.RELEASE_SOON_JOB, RUN_KEY)).thenReturn(true);
+        new MissedJobCatchUp(jobRunner, igdbSyncScheduler, notificationScheduler, calendar).catchUpMissedRuns();
+
+        verify(jobRunner, times(3)).isCompleted(anyString(), eq(RUN_KEY));
+        verifyNoInteractions(igdbSyncScheduler, notificationScheduler);
+    }
+
+    @Test
+    void shouldRetrySyncThatFoundIgdbUnavailableOnceItIsBack() {
+        JobLeaseRepository leases = mock(JobLeaseRepository.class);
+        GameRepository games = mock(GameRepository.class);
+        GameLookupPort igdb = mock(GameLookupPort.class);
+        AtomicBoolean shardDone = new AtomicBoolean();
+        Game game = Game.builder()
+                .id(UUID.randomUUID()).title("Hades 3").releaseDate(DAY.toLocalDate().plusMonths(2))
+                .platforms(Set.of(Platform.PC)).status(GameStatus.UPCOMING).igdbId(101L)
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                .build();
+
+        when(leases.countLiveNodes(any())).thenReturn(1);
+        when(leases.claimShards(eq(IgdbSyncScheduler.JOB_NAME), anyString(), eq(1), anyString(), anyInt(), any()))
+                .thenReturn(List.of(JobCheckpoint.builder().shard(0).build()), List.of(),
+                        List.of(JobCheckpoint.builder().shard(0).build()), List.of());
+        when(leases.claimShards(eq(IgdbSyncScheduler.MIRROR_JOB_NAME), anyString(), eq(1), anyString(), anyInt(), any()))
+                .thenReturn(List.of(JobCheckpoint.builder().shard(0).build()));
+        doAnswer(invocation -> {
+            shardDone.set(true);
+            return null;
+        }).when(leases).completeShard(eq(IgdbSyncScheduler.JOB_NAME), eq(0), anyString());
+        when(leases.isRunCompleted(eq(IgdbSyncScheduler.JOB_NAME), anyString())).thenAnswer(invocation -> shardDone.get());
+        when(games.findChunkByStatus(eq(GameStatus.UPCOMING), eq(JobShard.of(0, 1)), any(), anyInt())).thenReturn(List.of(game));
+        when(igdb.findReleaseDatesByIgdbIds(anyCollection(), any())).thenReturn(Map.of());
+
+        // 3 AM: IGDB is down, so the shard is left unfinished instead of being recorded as done
+        when(igdb.isAvailable()).thenReturn(false);
+        syncScheduler(leases, games, igdb, "node-a").syncUpcomingGames();
+        verify(leases, never()).completeShard(eq(IgdbSyncScheduler.JOB_NAME), anyInt(), anyString());
+
+        // After a restart IGDB is back; the catch-up sees no completed run and syncs again
+        when(igdb.isAvailable()).thenReturn(true);
+        ShardedJobRunner restarted = new ShardedJobRunner(leases, "node-b", 1, Duration.ofMinutes(10), Duration.ofSeconds(30));
+        MissedJobCatchUp afterRestart = new MissedJobCatchUp(restarted, syncScheduler(leases, games, igdb, "node-b"),
+                notificationScheduler, AT_3_30);
+        afterRestart.catchUpMissedRuns();
+
+        verify(igdb).findReleaseDatesByIgdbIds(anyCollection(), any());
+        verify(leases).completeShard(IgdbSyncScheduler.JOB_NAME, 0, "node-b");
+    }
+
+    private static IgdbSyncScheduler syncScheduler(JobLeaseRepository leases, GameRepository games,
+                                                   GameLookupPort igdb, String nodeId) {
+        return new IgdbSyncScheduler(games, mock(SubscriptionRepository.class), igdb,
+                mock(EmailNotificationService.class), TransactionOperations.withoutTransaction(),
+                new ShardedJobRunner(leases, nodeId, 1, Duration.ofMinutes(10), Duration.ofSeconds(30)), AT_3_30);
+    }
+}
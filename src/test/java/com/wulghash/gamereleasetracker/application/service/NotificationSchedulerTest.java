@@ -1,30 +1,39 @@
 package com.wulghash.gamereleasetracker.application.service;
 
 import com.wulghash.gamereleasetracker.domain.model.*;
-import com.wulghash.gamereleasetracker.domain.port.out.GameRepository;
+import com.wulghash.gamereleasetracker.domain.port.out.JobLeaseRepository;
 import com.wulghash.gamereleasetracker.domain.port.out.SubscriptionRepository;
 import com.wulghash.gamereleasetracker.infrastructure.mail.EmailNotificationService;
+import com.wulghash.gamereleasetracker.infrastructure.mail.RenderedNotification;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationSchedulerTest {
 
-    @Mock
-    private GameRepository gameRepository;
+    private static final JobShard SHARD = JobShard.of(0, 1);
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
 
     @Mock
     private SubscriptionRepository subscriptionRepository;
@@ -32,64 +41,100 @@ class NotificationSchedulerTest {
     @Mock
     private EmailNotificationService emailNotificationService;
 
+    @Mock
+    private ShardedJobRunner jobRunner;
+
+    private final JobLeaseRepository jobLeases = mock(JobLeaseRepository.class);
+    private UUID resumeAfter;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
+    @Spy
+    private JobCalendar jobCalendar = new JobCalendar(
+            Clock.fixed(TODAY.atTime(3, 0).atZone(ZoneId.of(JobCalendar.ZONE)).toInstant(), ZoneOffset.UTC));
+
     @InjectMocks
     private NotificationScheduler scheduler;
 
+    @BeforeEach
+    void runAsOnlyNode() {
+        when(jobRunner.run(anyString(), eq(TODAY.toString()), any())).thenAnswer(invocation -> {
+            Consumer<ShardRun> work = invocation.getArgument(2);
+            work.accept(new ShardRun(jobLeases, invocation.getArgument(0), "node-a", SHARD, resumeAfter, 0));
+            return 1;
+        });
+    }
+
     @Test
     void shouldSendReleaseEmailsForGamesReleasingToday() {
-        LocalDate today = LocalDate.now();
+        LocalDate today = TODAY;
         Game game = buildGame(UUID.randomUUID(), "Elden Ring 2", today);
-        Subscription sub = buildSubscription(game.getId(), "player@example.com");
+        NotificationTarget first = buildTarget(game, "player@example.com");
+        NotificationTarget second = buildTarget(game, "friend@example.com");
 
-        when(gameRepository.findAllByStatusAndReleaseDate(GameStatus.UPCOMING, today))
-                .thenReturn(List.of(game));
-        when(subscriptionRepository.findAllByGameId(game.getId())).thenReturn(List.of(sub));
+        RenderedNotification rendered = rendered("release-today");
+        givenTargets(today, List.of(first, second));
+        when(emailNotificationService.renderReleaseToday(game)).thenReturn(rendered);
 
         scheduler.sendReleaseNotifications();
 
-        verify(emailNotificationService).sendReleaseToday(sub.getEmail(), game, sub.getUnsubscribeToken());
+        verify(emailNotificationService, times(1)).renderReleaseToday(game);
+        verify(emailNotificationService).send(rendered, first.getEmail(), first.getUnsubscribeToken());
+        verify(emailNotificationService).send(rendered, second.getEmail(), second.getUnsubscribeToken());
+        verify(jobLeases).saveCheckpoint(NotificationScheduler.RELEASE_TODAY_JOB, 0, "node-a", game.getId(), 2);
     }
 
     @Test
     void shouldSendWeeklyReminderEmailsForGamesReleasingInSevenDays() {
-        LocalDate inSevenDays = LocalDate.now().plusDays(7);
+        LocalDate inSevenDays = TODAY.plusDays(7);
         Game game = buildGame(UUID.randomUUID(), "Hollow Knight 2", inSevenDays);
-        Subscription sub = buildSubscription(game.getId(), "player@example.com");
+        NotificationTarget target = buildTarget(game, "player@example.com");
 
-        when(gameRepository.findAllByStatusAndReleaseDate(GameStatus.UPCOMING, inSevenDays))
-                .thenReturn(List.of(game));
-        when(subscriptionRepository.findAllByGameId(game.getId())).thenReturn(List.of(sub));
+        RenderedNotification rendered = rendered("release-soon");
+        givenTargets(inSevenDays, List.of(target));
+        when(emailNotificationService.renderReleaseSoon(game)).thenReturn(rendered);
 
         scheduler.sendWeeklyReminders();
 
-        verify(emailNotificationService).sendReleaseSoon(sub.getEmail(), game, sub.getUnsubscribeToken());
+        verify(emailNotificationService).send(rendered, target.getEmail(), target.getUnsubscribeToken());
     }
 
     @Test
-    void shouldNotSendEmailsWhenNoSubscribersForGame() {
-        LocalDate today = LocalDate.now();
-        Game game = buildGame(UUID.randomUUID(), "Lonely Game", today);
+    void shouldQueryTargetsOnceForAllGamesReleasingToday() {
+        LocalDate today = TODAY;
+        Game first = buildGame(UUID.randomUUID(), "Elden Ring 2", today);
+        Game second = buildGame(UUID.randomUUID(), "Silksong", today);
 
-        when(gameRepository.findAllByStatusAndReleaseDate(GameStatus.UPCOMING, today))
-                .thenReturn(List.of(game));
-        when(subscriptionRepository.findAllByGameId(game.getId())).thenReturn(List.of());
+        givenTargets(today, List.of(buildTarget(first, "a@example.com"), buildTarget(second, "b@example.com")));
+        when(emailNotificationService.renderReleaseToday(any())).thenReturn(rendered("release-today"));
 
         scheduler.sendReleaseNotifications();
 
-        verifyNoInteractions(emailNotificationService);
+        verify(subscriptionRepository, times(1)).forEachNotificationTarget(eq(GameStatus.UPCOMING), eq(today), eq(SHARD), any());
+        verify(subscriptionRepository, never()).findAllByGameId(any());
+        verify(emailNotificationService, times(2)).renderReleaseToday(any());
+        verify(emailNotificationService, times(2)).send(any(), any(), any());
     }
 
     @Test
-    void shouldNotSendEmailsWhenNoGamesReleasingToday() {
-        when(gameRepository.findAllByStatusAndReleaseDate(eq(GameStatus.UPCOMING), any(LocalDate.class)))
-                .thenReturn(List.of());
+    void shouldNotSendEmailsWhenNobodyIsSubscribed() {
+        givenTargets(TODAY, List.of());
 
         scheduler.sendReleaseNotifications();
 
-        verifyNoInteractions(subscriptionRepository);
         verifyNoInteractions(emailNotificationService);
     }
 
+    @SuppressWarnings("unchecked")
+    private void givenTargets(LocalDate releaseDate, List<NotificationTarget> targets) {
+        doAnswer(invocation -> {
+            Consumer<NotificationTarget> action = invocation.getArgument(3);
+            targets.forEach(action);
+            return null;
+        }).when(subscriptionRepository).forEachNotificationTarget(eq(GameStatus.UPCOMING), eq(releaseDate), eq(SHARD), any(Consumer.class));
+    }
+
     private Game buildGame(UUID id, String title, LocalDate releaseDate) {
         return Game.builder()
                 .id(id).title(title).releaseDate(releaseDate)
@@ -98,10 +143,13 @@ class NotificationSchedulerTest {
                 .build();
     }
 
-    private Subscription buildSubscription(UUID gameId, String email) {
-        return Subscription.builder()
-                .id(UUID.randomUUID()).gameId(gameId).email(email)
-                .unsubscribeToken(UUID.randomUUID()).createdAt(LocalDateTime.now())
+    private RenderedNotification rendered(String eventKey) {
+        return new RenderedNotification(eventKey, "Subject", "Unsubscribe: /", "\n");
+    }
+
+    private NotificationTarget buildTarget(Game game, String email) {
+        return NotificationTarget.builder()
+                .game(game).email(email).unsubscribeToken(UUID.randomUUID())
                 .build();
     }
 }
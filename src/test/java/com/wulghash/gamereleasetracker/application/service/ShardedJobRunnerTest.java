@@ -0,0 +1,111 @@
+package com.wulghash.gamereleasetracker.application.service;
+
+import com.wulghash.gamereleasetracker.domain.model.JobCheckpoint;
+import com.wulghash.gamereleasetracker.domain.model.JobShard;
+import com.wulghash.gamereleasetracker.domain.port.out.JobLeaseRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ShardedJobRunnerTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    private final JobLeaseRepository leases = mock(JobLeaseRepository.class);
+    private final ShardedJobRunner runner = new ShardedJobRunner(leases, "node-a", 8, LEASE, Duration.ofSeconds(30));
+
+    @Test
+    void shouldClaimFairShareThenPickUpLeftovers() {
+        when(leases.countLiveNodes(Duration.ofSeconds(90))).thenReturn(3);
+        when(leases.claimShards("job", "2026-10-17", 8, "node-a", 3, LEASE)).thenReturn(claims(0, 1, 2));
+        when(leases.claimShards("job", "2026-10-17", 8, "node-a", 1, LEASE)).thenReturn(claims(7), List.of());
+        List<JobShard> processed = new ArrayList<>();
+
+        int completed = runner.run("job", "2026-10-17", run -> processed.add(run.getShard()));
+
+        assertThat(completed).isEqualTo(4);
+        assertThat(processed).containsExactly(JobShard.of(0, 8), JobShard.of(1, 8), JobShard.of(2, 8), JobShard.of(7, 8));
+        verify(leases).completeShard("job", 7, "node-a");
+        verify(leases).startRun("job", "2026-10-17");
+        verify(leases).completeRunIfFinished("job", "2026-10-17", 8);
+    }
+
+    @Test
+    void shouldLeaveFailedShardUnfinished() {
+        when(leases.countLiveNodes(any())).thenReturn(1);
+        when(leases.claimShards(eq("job"), any(), eq(8), eq("node-a"), eq(8), eq(LEASE))).thenReturn(claims(0, 1));
+        when(leases.claimShards(eq("job"), any(), eq(8), eq("node-a"), eq(1), eq(LEASE))).thenReturn(List.of());
+
+        int completed = runner.run("job", "2026-10-17", run -> {
+            if (run.getShard().getIndex() == 0) throw new IllegalStateException("boom");
+        });
+
+        assertThat(completed).isEqualTo(1);
+        verify(leases, never()).completeShard("job", 0, "node-a");
+        verify(leases).completeShard("job", 1, "node-a");
+    }
+
+    @Test
+    void runOnceShouldRunOnlyOnTheNodeThatClaimsTheJob() {
+        when(leases.claimShards("pull", "2026-10-17", 1, "node-a", 1, LEASE)).thenReturn(claims(0), List.of());
+        List<String> runs = new ArrayList<>();
+
+        assertThat(runner.runOnce("pull", "2026-10-17", () -> runs.add("run"))).isTrue();
+        assertThat(runner.runOnce("pull", "2026-10-17", () -> runs.add("run"))).isFalse();
+
+        assertThat(runs).hasSize(1);
+        verify(leases).completeShard("pull", 0, "node-a");
+        verify(leases).completeRunIfFinished("pull", "2026-10-17", 1);
+    }
+
+    @Test
+    void runOnceShouldLeaveFailedJobUnfinished() {
+        when(leases.claimShards("pull", "2026-10-17", 1, "node-a", 1, LEASE)).thenReturn(claims(0));
+
+        assertThatThrownBy(() -> runner.runOnce("pull", "2026-10-17", () -> {
+            throw new IllegalStateException("IGDB 500");
+        })).hasMessage("IGDB 500");
+
+        verify(leases, never()).completeShard(any(), anyInt(), any());
+    }
+
+    @Test
+    void heartbeatShouldRenewLeasesOfShardsInProgress() {
+        when(leases.countLiveNodes(any())).thenReturn(1);
+        when(leases.claimShards(eq("job"), any(), eq(8), eq("node-a"), anyInt(), eq(LEASE)))
+                .thenReturn(claims(4), List.of());
+
+        runner.run("job", "2026-10-17", run -> runner.heartbeat());
+
+        verify(leases).renewLeases("job", List.of(4), "node-a", LEASE);
+    }
+
+    @Test
+    void shouldResumeShardFromItsCheckpoint() {
+        UUID lastId = UUID.randomUUID();
+        when(leases.countLiveNodes(any())).thenReturn(1);
+        when(leases.claimShards(eq("job"), any(), eq(8), eq("node-a"), anyInt(), eq(LEASE))).thenReturn(
+                List.of(JobCheckpoint.builder().shard(3).lastId(lastId).processed(500).build()), List.of());
+        UUID next = UUID.randomUUID();
+
+        runner.run("job", "2026-10-17", run -> {
+            assertThat(run.getResumeAfter()).isEqualTo(lastId);
+            run.checkpoint(next, 20);
+        });
+
+        verify(leases).saveCheckpoint("job", 3, "node-a", next, 520);
+    }
+
+    private static List<JobCheckpoint> claims(int... shards) {
+        return Arrays.stream(shards).mapToObj(shard -> JobCheckpoint.builder().shard(shard).build()).toList();
+    }
+}
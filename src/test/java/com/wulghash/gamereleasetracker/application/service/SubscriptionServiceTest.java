@@ -4,8 +4,9 @@ import com.wulghash.gamereleasetracker.domain.model.GameAlreadySubscribedExcepti
 import com.wulghash.gamereleasetracker.domain.model.GameNotFoundException;
 import com.wulghash.gamereleasetracker.domain.model.Subscription;
 import com.wulghash.gamereleasetracker.domain.model.SubscriptionNotFoundException;
-import com.wulghash.gamereleasetracker.domain.port.out.GameRepository;
+import com.wulghash.gamereleasetracker.domain.port.out.NotificationPreferenceRepository;
 import com.wulghash.gamereleasetracker.domain.port.out.SubscriptionRepository;
+import com.wulghash.gamereleasetracker.domain.port.out.SubscriptionRepository.SubscribeOutcome;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,26 +31,24 @@ class SubscriptionServiceTest {
     private SubscriptionRepository subscriptionRepository;
 
     @Mock
-    private GameRepository gameRepository;
+    private NotificationPreferenceRepository notificationPreferenceRepository;
 
     private SubscriptionService subscriptionService;
 
     @BeforeEach
     void setUp() {
-        subscriptionService = new SubscriptionService(subscriptionRepository, gameRepository);
+        subscriptionService = new SubscriptionService(subscriptionRepository, notificationPreferenceRepository);
     }
 
     @Test
     void subscribeShouldSaveSubscriptionWithGeneratedToken() {
         UUID gameId = UUID.randomUUID();
-        when(gameRepository.existsByIdForAnyUser(gameId)).thenReturn(true);
-        when(subscriptionRepository.existsByGameIdAndEmail(gameId, "player@example.com")).thenReturn(false);
-        when(subscriptionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(subscriptionRepository.insert(any())).thenReturn(SubscribeOutcome.INSERTED);
 
         subscriptionService.subscribe(gameId, "player@example.com");
 
         ArgumentCaptor<Subscription> captor = ArgumentCaptor.forClass(Subscription.class);
-        verify(subscriptionRepository).save(captor.capture());
+        verify(subscriptionRepository).insert(captor.capture());
         Subscription saved = captor.getValue();
         assertThat(saved.getGameId()).isEqualTo(gameId);
         assertThat(saved.getEmail()).isEqualTo("player@example.com");
@@ -60,7 +59,7 @@ class SubscriptionServiceTest {
     @Test
     void subscribeShouldThrowWhenGameDoesNotExist() {
         UUID gameId = UUID.randomUUID();
-        when(gameRepository.existsByIdForAnyUser(gameId)).thenReturn(false);
+        when(subscriptionRepository.insert(any())).thenReturn(SubscribeOutcome.GAME_NOT_FOUND);
 
         assertThatThrownBy(() -> subscriptionService.subscribe(gameId, "player@example.com"))
                 .isInstanceOf(GameNotFoundException.class);
@@ -69,8 +68,7 @@ class SubscriptionServiceTest {
     @Test
     void subscribeShouldThrowWhenAlreadySubscribed() {
         UUID gameId = UUID.randomUUID();
-        when(gameRepository.existsByIdForAnyUser(gameId)).thenReturn(true);
-        when(subscriptionRepository.existsByGameIdAndEmail(gameId, "player@example.com")).thenReturn(true);
+        when(subscriptionRepository.insert(any())).thenReturn(SubscribeOutcome.ALREADY_SUBSCRIBED);
 
         assertThatThrownBy(() -> subscriptionService.subscribe(gameId, "player@example.com"))
                 .isInstanceOf(GameAlreadySubscribedException.class)
@@ -79,25 +77,43 @@ class SubscriptionServiceTest {
 
     @Test
     void unsubscribeShouldDeleteByToken() {
+        UUID token = UUID.randomUUID();
+        when(subscriptionRepository.deleteByUnsubscribeToken(token)).thenReturn(true);
+
+        subscriptionService.unsubscribe(token);
+
+        verify(subscriptionRepository).deleteByUnsubscribeToken(token);
+    }
+
+    @Test
+    void unsubscribeShouldThrowWhenTokenNotFound() {
+        UUID token = UUID.randomUUID();
+        when(subscriptionRepository.deleteByUnsubscribeToken(token)).thenReturn(false);
+
+        assertThatThrownBy(() -> subscriptionService.unsubscribe(token))
+                .isInstanceOf(SubscriptionNotFoundException.class);
+    }
+
+    @Test
+    void setDigestModeShouldUpdatePreferenceForSubscriptionEmail() {
         UUID token = UUID.randomUUID();
         Subscription existing = Subscription.builder()
                 .id(UUID.randomUUID()).gameId(UUID.randomUUID())
                 .email("player@example.com").unsubscribeToken(token)
                 .createdAt(LocalDateTime.now()).build();
-
         when(subscriptionRepository.findByUnsubscribeToken(token)).thenReturn(Optional.of(existing));
 
-        subscriptionService.unsubscribe(token);
+        subscriptionService.setDigestMode(token, true);
 
-        verify(subscriptionRepository).deleteById(existing.getId());
+        verify(notificationPreferenceRepository).setDigestEnabled("player@example.com", true);
     }
 
     @Test
-    void unsubscribeShouldThrowWhenTokenNotFound() {
+    void setDigestModeShouldThrowWhenTokenNotFound() {
         UUID token = UUID.randomUUID();
         when(subscriptionRepository.findByUnsubscribeToken(token)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> subscriptionService.unsubscribe(token))
+        assertThatThrownBy(() -> subscriptionService.setDigestMode(token, true))
                 .isInstanceOf(SubscriptionNotFoundException.class);
     }
 }
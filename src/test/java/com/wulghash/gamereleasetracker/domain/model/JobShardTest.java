@@ -0,0 +1,34 @@
+package com.wulghash.gamereleasetracker.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobShardTest {
+
+    @Test
+    void keyShouldComeFromLeadingBitsOfId() {
+        // Mirrors the SQL backfill: first 8 hex digits modulo 1024
+        UUID id = UUID.fromString("fffffc05-0000-4000-8000-000000000000");
+
+        assertThat(JobShard.keyOf(id)).isEqualTo(0xfffffc05L % 1024);
+    }
+
+    @Test
+    void everyGameShouldBelongToExactlyOneShard() {
+        UUID id = UUID.randomUUID();
+
+        long owners = IntStream.range(0, 8).filter(i -> JobShard.of(i, 8).contains(id)).count();
+
+        assertThat(owners).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectIndexOutsideCount() {
+        assertThatThrownBy(() -> JobShard.of(8, 8)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.wulghash.gamereleasetracker.infrastructure.igdb;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IgdbCircuitBreakerTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final IgdbCircuitBreaker breaker =
+            new IgdbCircuitBreaker(new SimpleMeterRegistry(), 3, Duration.ofSeconds(30), clock);
+
+    @Test
+    void shouldOpenAfterConsecutiveFailuresAndRejectCalls() {
+        failTimes(3);
+
+        assertThat(breaker.state()).isEqualTo(IgdbCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.isCallPermitted()).isFalse();
+    }
+
+    @Test
+    void shouldResetFailureCountOnSuccess() {
+        failTimes(2);
+        breaker.tryAcquirePermission();
+        breaker.onSuccess();
+        failTimes(2);
+
+        assertThat(breaker.state()).isEqualTo(IgdbCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldLetExactlyOneProbeThroughAfterOpenDuration() {
+        failTimes(3);
+        clock.advance(Duration.ofSeconds(31));
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(breaker.state()).isEqualTo(IgdbCircuitBreaker.State.HALF_OPEN);
+
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(IgdbCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    void shouldReopenWhenProbeFails() {
+        failTimes(3);
+        clock.advance(Duration.ofSeconds(31));
+        breaker.tryAcquirePermission();
+
+        breaker.onFailure();
+
+        assertThat(breaker.state()).isEqualTo(IgdbCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void failTimes(int n) {
+        for (int i = 0; i < n; i++) {
+            breaker.tryAcquirePermission();
+            breaker.onFailure();
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration d) {
+            now = now.plus(d);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
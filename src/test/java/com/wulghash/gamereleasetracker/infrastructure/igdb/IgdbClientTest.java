@@ -0,0 +1,151 @@
+package com.wulghash.gamereleasetracker.infrastructure.igdb;
+
+import com.wulghash.gamereleasetracker.infrastructure.igdb.IgdbMirrorStore.MirroredGame;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class IgdbClientTest {
+
+    private static final String GAMES_URL = "https://api.igdb.com/v4/games";
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 17);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IgdbTokenService tokenService = mock(IgdbTokenService.class);
+    private final IgdbMirrorStore mirror = mock(IgdbMirrorStore.class);
+    private IgdbRequestScheduler requestScheduler;
+    private MockRestServiceServer server;
+    private IgdbClient client;
+
+    @BeforeEach
+    void setUp() {
+        when(tokenService.isConfigured()).thenReturn(true);
+        when(tokenService.getToken()).thenReturn("token");
+        when(mirror.highWaterMark()).thenReturn(0L);
+
+        RestClient.Builder builder = RestClient.builder();
+        server = MockRestServiceServer.bindTo(builder).build();
+        requestScheduler = new IgdbRequestScheduler(meterRegistry, 100, 1, 200);
+        client = new IgdbClient(builder.build(), tokenService, requestScheduler,
+                new IgdbCircuitBreaker(meterRegistry, 5, Duration.ofSeconds(30)), mirror, true, "client");
+    }
+
+    @AfterEach
+    void tearDown() {
+        requestScheduler.shutdown();
+    }
+
+    @Test
+    void refreshLocalCatalogShouldFailWhenAPageFailsMidPull() {
+        server.expect(requestTo(GAMES_URL)).andRespond(withSuccess(fullPage(), MediaType.APPLICATION_JSON));
+        server.expect(requestTo(GAMES_URL)).andRespond(withServerError());
+
+        assertThatThrownBy(() -> client.refreshLocalCatalog(DAY)).isInstanceOf(HttpServerErrorException.class);
+
+        verify(mirror, times(1)).savePage(anyList(), anyLong());
+        verify(mirror).markPullStarted();
+        verify(mirror, never()).markCurrentAsOf(any());
+        server.verify();
+    }
+
+    @Test
+    void refreshLocalCatalogShouldRecordTheDayOnlyOnceTheLastPageIsIn() {
+        server.expect(requestTo(GAMES_URL)).andRespond(withSuccess(
+                "[{\"id\": 7, \"name\": \"Hades 3\", \"updated_at\": 1001}]", MediaType.APPLICATION_JSON));
+
+        client.refreshLocalCatalog(DAY);
+
+        InOrder inOrder = inOrder(mirror);
+        inOrder.verify(mirror).markPullStarted();
+        inOrder.verify(mirror).savePage(anyList(), eq(1001L));
+        inOrder.verify(mirror).markCurrentAsOf(DAY);
+        server.verify();
+    }
+
+    @Test
+    void releaseDateLookupsShouldBypassTheMirrorAfterAFailedPull() {
+        server.expect(requestTo(GAMES_URL)).andRespond(withServerError());
+        server.expect(requestTo(GAMES_URL)).andRespond(withSuccess(
+                "[{\"id\": 7, \"first_release_date\": 1788480000}]", MediaType.APPLICATION_JSON));
+
+        assertThatThrownBy(() -> client.refreshLocalCatalog(DAY)).isInstanceOf(HttpServerErrorException.class);
+
+        assertThat(client.findReleaseDatesByIgdbIds(List.of(7L), DAY)).containsOnlyKeys(7L);
+        verify(mirror, never()).findAllByIds(anyCollection());
+        server.verify();
+    }
+
+    @Test
+    void releaseDateLookupsShouldGoLiveWhileTheMirrorIsOnlyCurrentAsOfAnEarlierDay() {
+        when(mirror.currentAsOf()).thenReturn(Optional.of(DAY.minusDays(1)));
+        server.expect(requestTo(GAMES_URL)).andRespond(withSuccess(
+                "[{\"id\": 7, \"first_release_date\": 1788480000}]", MediaType.APPLICATION_JSON));
+
+        assertThat(client.findReleaseDatesByIgdbIds(List.of(7L), DAY)).containsOnlyKeys(7L);
+        verify(mirror, never()).findAllByIds(anyCollection());
+        server.verify();
+    }
+
+    @Test
+    void releaseDateLookupsShouldReadTheMirrorOnceItIsCurrentAsOfTheDay() {
+        LocalDate releaseDate = LocalDate.of(2027, 3, 1);
+        when(mirror.currentAsOf()).thenReturn(Optional.of(DAY));
+        when(mirror.findAllByIds(List.of(7L))).thenReturn(Map.of(7L, new MirroredGame(
+                7L, "Hades 3", releaseDate, null, null, List.of(), null, null, null, null, 1001L)));
+
+        assertThat(client.findReleaseDatesByIgdbIds(List.of(7L), DAY)).containsEntry(7L, releaseDate);
+        server.verify();
+    }
+
+    @Test
+    void detailLookupsShouldBypassTheMirrorWhileNoPullHasFinished() {
+        server.expect(requestTo(GAMES_URL)).andRespond(withSuccess(
+                "[{\"id\": 7, \"name\": \"Hades 3 (live)\"}]", MediaType.APPLICATION_JSON));
+
+        assertThat(client.getDetail(7L).title()).isEqualTo("Hades 3 (live)");
+        verify(mirror, never()).findById(anyLong());
+        server.verify();
+    }
+
+    @Test
+    void detailLookupsShouldReadTheMirrorOnceAPullHasFinished() {
+        when(mirror.currentAsOf()).thenReturn(Optional.of(DAY.minusDays(1)));
+        when(mirror.findById(7L)).thenReturn(Optional.of(new MirroredGame(
+                7L, "Hades 3", null, null, null, List.of(), null, null, null, null, 1001L)));
+
+        assertThat(client.getDetail(7L).title()).isEqualTo("Hades 3");
+        server.verify();
+    }
+
+    private static String fullPage() {
+        return IntStream.rangeClosed(1, 500)
+                .mapToObj(i -> "{\"id\": " + i + ", \"name\": \"Game " + i + "\", \"updated_at\": " + (1000 + i) + "}")
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.wulghash.gamereleasetracker.infrastructure.igdb;
+
+import com.wulghash.gamereleasetracker.domain.model.Platform;
+import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameLookupDetail;
+import com.wulghash.gamereleasetracker.infrastructure.web.dto.GameLookupResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IgdbLookupCacheTest {
+
+    @Mock
+    private IgdbClient igdbClient;
+
+    private IgdbLookupCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new IgdbLookupCache(igdbClient, new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(10), Duration.ofHours(1));
+    }
+
+    @Test
+    void shouldServeRepeatedSearchesWithSameNormalizedQueryFromCache() {
+        GameLookupResult result = new GameLookupResult(1L, "Elden Ring", "2022-02-25", null, List.of(Platform.PC), 95);
+        when(igdbClient.search("elden ring")).thenReturn(List.of(result));
+
+        cache.search("Elden Ring");
+        List<GameLookupResult> second = cache.search("  elden   RING ");
+
+        assertThat(second).containsExactly(result);
+        verify(igdbClient, times(1)).search("elden ring");
+    }
+
+    @Test
+    void shouldNotCacheEmptySearchResults() {
+        when(igdbClient.search("nothing")).thenReturn(List.of());
+
+        assertThat(cache.search("nothing")).isEmpty();
+        assertThat(cache.search("nothing")).isEmpty();
+
+        verify(igdbClient, times(2)).search("nothing");
+    }
+
+    @Test
+    void shouldCacheDetailByIgdbIdButNotMisses() {
+        GameLookupDetail detail = new GameLookupDetail("Hades", "2020-09-17", null, List.of(Platform.PC),
+                null, "Supergiant Games", "Supergiant Games", 93);
+        when(igdbClient.getDetail(42L)).thenReturn(detail);
+        when(igdbClient.getDetail(7L)).thenReturn(null);
+
+        cache.getDetail(42L);
+        assertThat(cache.getDetail(42L)).isEqualTo(detail);
+        assertThat(cache.getDetail(7L)).isNull();
+        assertThat(cache.getDetail(7L)).isNull();
+
+        verify(igdbClient, times(1)).getDetail(42L);
+        verify(igdbClient, times(2)).getDetail(7L);
+    }
+}
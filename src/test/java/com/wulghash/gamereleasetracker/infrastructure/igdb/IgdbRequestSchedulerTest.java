@@ -0,0 +1,163 @@
+package com.wulghash.gamereleasetracker.infrastructure.igdb;
+
+import com.wulghash.gamereleasetracker.domain.model.GameLookupUnavailableException;
+import com.wulghash.gamereleasetracker.infrastructure.igdb.IgdbRequestScheduler.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IgdbRequestSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private IgdbRequestScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void shouldDispatchInteractiveRequestsBeforeQueuedBackgroundRequests() throws Exception {
+        scheduler = new IgdbRequestScheduler(meterRegistry, 100, 1, 200);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> blocker = scheduler.submit(Priority.BACKGROUND, () -> {
+            await(release);
+            return null;
+        });
+        CompletableFuture<Void> background = scheduler.submit(Priority.BACKGROUND, () -> {
+            order.add("background");
+            return null;
+        });
+        CompletableFuture<Void> interactive = scheduler.submit(Priority.INTERACTIVE, () -> {
+            order.add("interactive");
+            return null;
+        });
+
+        release.countDown();
+        CompletableFuture.allOf(blocker, background, interactive).get(5, TimeUnit.SECONDS);
+
+        assertThat(order).containsExactly("interactive", "background");
+    }
+
+    @Test
+    void shouldNeverExceedMaxConcurrentRequests() throws Exception {
+        scheduler = new IgdbRequestScheduler(meterRegistry, 1000, 2, 200);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        CompletableFuture<?>[] calls = IntStream.range(0, 10)
+                .mapToObj(i -> scheduler.submit(Priority.BACKGROUND, () -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(20);
+                    running.decrementAndGet();
+                    return i;
+                }))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(calls).get(5, TimeUnit.SECONDS);
+
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+        assertThat(meterRegistry.get("igdb.requests.wait").tag("lane", "background").timer().count())
+                .isEqualTo(10);
+    }
+
+    @Test
+    void shouldPropagateCallFailureToCaller() {
+        scheduler = new IgdbRequestScheduler(meterRegistry, 100, 1, 200);
+
+        CompletableFuture<Object> failing = scheduler.submit(Priority.INTERACTIVE, () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThat(failing).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableThat().withRootCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRejectNewRequestsWhenQueueIsFull() throws Exception {
+        scheduler = new IgdbRequestScheduler(meterRegistry, 100, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> running = scheduler.submit(Priority.BACKGROUND, () -> {
+            await(release);
+            return null;
+        });
+        waitUntilDispatched();
+        CompletableFuture<Integer> queued = scheduler.submit(Priority.BACKGROUND, () -> 1);
+        CompletableFuture<Integer> rejected = scheduler.submit(Priority.INTERACTIVE, () -> 2);
+
+        assertThat(rejected).failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableThat().withRootCauseInstanceOf(GameLookupUnavailableException.class);
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotOverfillQueueWhenCallersSubmitConcurrently() throws Exception {
+        scheduler = new IgdbRequestScheduler(meterRegistry, 100, 1, 5);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> running = scheduler.submit(Priority.BACKGROUND, () -> {
+            await(release);
+            return null;
+        });
+        waitUntilDispatched();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> submitted = new CopyOnWriteArrayList<>();
+        List<Thread> callers = IntStream.range(0, 32)
+                .mapToObj(i -> new Thread(() -> {
+                    await(start);
+                    submitted.add(scheduler.submit(Priority.BACKGROUND, () -> i));
+                }))
+                .toList();
+        callers.forEach(Thread::start);
+        start.countDown();
+        for (Thread caller : callers) caller.join(5000);
+
+        assertThat(submitted).hasSize(32);
+        assertThat(submitted).filteredOn(CompletableFuture::isCompletedExceptionally).hasSize(27);
+
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        CompletableFuture.allOf(submitted.stream()
+                        .filter(f -> !f.isCompletedExceptionally())
+                        .toArray(CompletableFuture[]::new))
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    private void waitUntilDispatched() throws InterruptedException {
+        for (int i = 0; i < 100 && meterRegistry.get("igdb.requests.in_flight").gauge().value() < 1; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.wulghash.gamereleasetracker.infrastructure.igdb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void shouldShareOneCallBetweenConcurrentCallersWithSameKey() {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+
+        CompletableFuture<String> first = singleFlight.execute("q", () -> {
+            calls.incrementAndGet();
+            return upstream;
+        });
+        CompletableFuture<String> second = singleFlight.execute("q", () -> {
+            calls.incrementAndGet();
+            return upstream;
+        });
+        upstream.complete("result");
+
+        assertThat(first.join()).isEqualTo("result");
+        assertThat(second.join()).isEqualTo("result");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldStartNewCallOnceThePreviousFlightCompleted() {
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("q", () -> CompletableFuture.completedFuture("a" + calls.incrementAndGet())).join();
+        String second = singleFlight.execute("q",
+                () -> CompletableFuture.completedFuture("a" + calls.incrementAndGet())).join();
+
+        assertThat(second).isEqualTo("a2");
+    }
+
+    @Test
+    void shouldPropagateFailureToAllWaitersAndForgetTheKey() {
+        CompletableFuture<String> upstream = new CompletableFuture<>();
+        CompletableFuture<String> first = singleFlight.execute("q", () -> upstream);
+        CompletableFuture<String> second = singleFlight.execute("q", () -> upstream);
+
+        upstream.completeExceptionally(new IllegalStateException("down"));
+
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).isCompletedExceptionally();
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+}
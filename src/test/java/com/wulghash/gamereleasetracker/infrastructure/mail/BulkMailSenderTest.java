@@ -0,0 +1,63 @@
+package com.wulghash.gamereleasetracker.infrastructure.mail;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BulkMailSenderTest {
+
+    private final JavaMailSender mailSender = mock(JavaMailSender.class);
+    private final BulkMailSender bulkMailSender = new BulkMailSender(mailSender, 4, 10);
+
+    @AfterEach
+    void tearDown() {
+        bulkMailSender.shutdown();
+    }
+
+    @Test
+    void shouldSpreadMessagesOverSessionsWithinPerSessionLimit() {
+        assertThat(bulkMailSender.partition(messages(20))).hasSize(4).allMatch(batch -> batch.size() == 5);
+        assertThat(bulkMailSender.partition(messages(100))).hasSize(10).allMatch(batch -> batch.size() == 10);
+        assertThat(bulkMailSender.partition(messages(3))).hasSize(3);
+    }
+
+    @Test
+    void shouldSendEachBatchOverOneTransport() {
+        Map<SimpleMailMessage, Exception> failed = bulkMailSender.sendAll(messages(20));
+
+        assertThat(failed).isEmpty();
+        verify(mailSender, times(4)).send(any(SimpleMailMessage[].class));
+    }
+
+    @Test
+    void shouldReportOnlyTheMessagesTheServerRejected() {
+        List<SimpleMailMessage> messages = messages(2);
+        SimpleMailMessage rejected = messages.get(1);
+        doThrow(new MailSendException(Map.of(rejected, new RuntimeException("550 no such user"))))
+                .when(mailSender).send(any(SimpleMailMessage[].class));
+
+        Map<SimpleMailMessage, Exception> failed = new BulkMailSender(mailSender, 1, 10).sendAll(messages);
+
+        assertThat(failed).containsOnlyKeys(rejected);
+    }
+
+    private static List<SimpleMailMessage> messages(int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo("player" + i + "@example.com");
+            message.setSubject("Subject");
+            message.setText("Body");
+            return message;
+        }).toList();
+    }
+}
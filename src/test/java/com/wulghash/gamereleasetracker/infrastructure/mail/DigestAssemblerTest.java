@@ -0,0 +1,68 @@
+package com.wulghash.gamereleasetracker.infrastructure.mail;
+
+import com.wulghash.gamereleasetracker.infrastructure.mail.NotificationOutbox.OutboxMessage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DigestAssemblerTest {
+
+    private static final String RECIPIENT = "player@example.com";
+
+    private final NotificationOutbox outbox = mock(NotificationOutbox.class);
+    private final DigestAssembler assembler =
+            new DigestAssembler(outbox, TransactionOperations.withoutTransaction(), Duration.ofMinutes(30));
+
+    @Test
+    void shouldFoldHeldMessagesIntoOneDigest() {
+        OutboxMessage today = held("Silksong is out today!", "Great news!");
+        OutboxMessage moved = held("Hades II release date changed", "New date: 2026-11-02");
+        when(outbox.recipientsHeldSince(any())).thenReturn(List.of(RECIPIENT));
+        when(outbox.lockHeld(RECIPIENT)).thenReturn(List.of(today, moved));
+
+        assembler.assembleDue();
+
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(outbox).replaceWithDigest(eq(List.of(today.id(), moved.id())), eq("digest:" + RECIPIENT + ":" + today.id()),
+                eq(RECIPIENT), eq("Your game updates: 2 notifications"), body.capture());
+        assertThat(body.getValue())
+                .contains("== Silksong is out today! ==", "Great news!", "== Hades II release date changed ==", "New date: 2026-11-02");
+        verify(outbox, never()).release(any());
+    }
+
+    @Test
+    void shouldReleaseSingleHeldMessageUnchanged() {
+        OutboxMessage only = held("Silksong is out today!", "Great news!");
+        when(outbox.recipientsHeldSince(any())).thenReturn(List.of(RECIPIENT));
+        when(outbox.lockHeld(RECIPIENT)).thenReturn(List.of(only));
+
+        assembler.assembleDue();
+
+        verify(outbox).release(List.of(only.id()));
+        verify(outbox, never()).replaceWithDigest(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldSkipRecipientWhoseMessagesAnotherNodeLocked() {
+        when(outbox.recipientsHeldSince(any())).thenReturn(List.of(RECIPIENT));
+        when(outbox.lockHeld(RECIPIENT)).thenReturn(List.of());
+
+        assembler.assembleDue();
+
+        verify(outbox, never()).release(any());
+        verify(outbox, never()).replaceWithDigest(any(), any(), any(), any(), any());
+    }
+
+    private OutboxMessage held(String subject, String body) {
+        return new OutboxMessage(UUID.randomUUID(), RECIPIENT, subject, body, 0, LocalDateTime.now().minusHours(1));
+    }
+}
@@ -0,0 +1,54 @@
+package com.wulghash.gamereleasetracker.infrastructure.mail;
+
+import com.wulghash.gamereleasetracker.domain.model.Game;
+import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.Platform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class EmailNotificationServiceTest {
+
+    private final NotificationOutbox outbox = mock(NotificationOutbox.class);
+    private final EmailNotificationService service = new EmailNotificationService();
+
+    private final Game game = Game.builder()
+            .id(UUID.randomUUID()).title("Hollow Knight: Silksong").releaseDate(LocalDate.of(2026, 9, 4))
+            .platforms(Set.of(Platform.SWITCH)).status(GameStatus.UPCOMING)
+            .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "mailSender", mock(JavaMailSender.class));
+        ReflectionTestUtils.setField(service, "outbox", outbox);
+        ReflectionTestUtils.setField(service, "baseUrl", "https://tracker.example.com");
+    }
+
+    @Test
+    void shouldLetReleaseNotificationsBeHeldForTheDigest() {
+        service.send(service.renderReleaseToday(game), "player@example.com", UUID.randomUUID());
+
+        verify(outbox).enqueue(any(), eq("player@example.com"), anyString(), anyString(), eq(true));
+    }
+
+    @Test
+    void shouldSendCancellationsImmediately() {
+        service.sendCancellation("player@example.com", game);
+
+        verify(outbox).enqueue(eq("cancelled:" + game.getId() + ":player@example.com"), eq("player@example.com"),
+                anyString(), anyString(), eq(false));
+    }
+}
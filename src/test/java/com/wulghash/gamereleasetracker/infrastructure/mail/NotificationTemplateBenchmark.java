@@ -0,0 +1,97 @@
+package com.wulghash.gamereleasetracker.infrastructure.mail;
+
+import com.wulghash.gamereleasetracker.domain.model.Game;
+import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.Platform;
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Release-day fan-out for one game: formatting the whole body per subscriber (the previous
+ * approach) versus rendering it once and splicing in each unsubscribe token.
+ *
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.args="-prof gc" \
+ *     -Dexec.mainClass=com.wulghash.gamereleasetracker.infrastructure.mail.NotificationTemplateBenchmark
+ * </pre>
+ * Any arguments are passed on to JMH; {@code -prof gc} reports allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationTemplateBenchmark {
+
+    private static final String BASE_URL = "https://tracker.example.com";
+
+    @Param({"1000"})
+    private int subscribers;
+
+    private Game game;
+    private UUID[] tokens;
+    private EmailNotificationService service;
+
+    @Setup
+    public void setUp() {
+        game = Game.builder()
+                .id(UUID.randomUUID()).title("Hollow Knight: Silksong").releaseDate(LocalDate.of(2026, 9, 4))
+                .platforms(Set.of(Platform.PC, Platform.SWITCH)).status(GameStatus.UPCOMING)
+                .shopUrl("https://store.example.com/silksong")
+                .createdAt(LocalDateTime.now()).updatedAt(LocalDateTime.now())
+                .build();
+        tokens = new UUID[subscribers];
+        for (int i = 0; i < subscribers; i++) tokens[i] = UUID.randomUUID();
+
+        service = new EmailNotificationService();
+        ReflectionTestUtils.setField(service, "baseUrl", BASE_URL);
+    }
+
+    @Benchmark
+    public void formatPerRecipient(Blackhole bh) {
+        for (UUID token : tokens) {
+            bh.consume(game.getTitle() + " is out today!");
+            bh.consume("""
+                    Great news! %s is available now.
+
+                    Release date: %s
+                    Platforms: %s
+                    %s
+
+                    ---
+                    Unsubscribe: %s/api/v1/unsubscribe/%s
+                    """.formatted(
+                    game.getTitle(),
+                    game.getReleaseDate(),
+                    game.getPlatforms(),
+                    game.getShopUrl() != null ? "Shop: " + game.getShopUrl() : "",
+                    BASE_URL, token));
+        }
+    }
+
+    @Benchmark
+    public void renderOncePerGame(Blackhole bh) {
+        RenderedNotification rendered = service.renderReleaseToday(game);
+        for (UUID token : tokens) {
+            bh.consume(rendered.subject());
+            bh.consume(rendered.bodyFor(token));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] jmhArgs = new String[args.length + 1];
+        jmhArgs[0] = NotificationTemplateBenchmark.class.getSimpleName();
+        System.arraycopy(args, 0, jmhArgs, 1, args.length);
+        Main.main(jmhArgs);
+    }
+}
@@ -0,0 +1,84 @@
+package com.wulghash.gamereleasetracker.infrastructure.mail;
+
+import com.wulghash.gamereleasetracker.infrastructure.mail.NotificationOutbox.OutboxMessage;
+import com.wulghash.gamereleasetracker.infrastructure.mail.NotificationOutbox.PendingStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+
+    private final NotificationOutbox outbox = mock(NotificationOutbox.class);
+    private final JavaMailSender mailSender = mock(JavaMailSender.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboxDispatcher dispatcher = new OutboxDispatcher(outbox, new BulkMailSender(mailSender, 1, 50), meterRegistry,
+            "tracker@example.com", 2, 3, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofDays(30));
+
+    @BeforeEach
+    void setUp() {
+        when(outbox.pendingStats()).thenReturn(new PendingStats(0, null));
+    }
+
+    @Test
+    void shouldDeliverClaimedMessagesAndMarkThemSent() {
+        OutboxMessage first = message(1);
+        OutboxMessage second = message(1);
+        OutboxMessage third = message(1);
+        when(outbox.claimDue(eq(2), any())).thenReturn(List.of(first, second), List.of(third));
+
+        dispatcher.dispatch();
+
+        verify(mailSender, times(2)).send(any(SimpleMailMessage[].class));
+        verify(outbox).markSent(List.of(first.id(), second.id()));
+        verify(outbox).markSent(List.of(third.id()));
+        assertThat(meterRegistry.get("notifications.outbox.sent").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldScheduleRetryWithBackoffWhenSendFails() {
+        OutboxMessage failing = message(2);
+        when(outbox.claimDue(eq(2), any())).thenReturn(List.of(failing));
+        doThrow(new MailSendException("SMTP down")).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.dispatch();
+
+        verify(outbox).scheduleRetry(failing.id(), Duration.ofSeconds(60), "SMTP down");
+        verify(outbox, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        OutboxMessage failing = message(3);
+        when(outbox.claimDue(eq(2), any())).thenReturn(List.of(failing));
+        doThrow(new MailSendException("mailbox unavailable")).when(mailSender).send(any(SimpleMailMessage[].class));
+
+        dispatcher.dispatch();
+
+        verify(outbox).markFailed(failing.id(), "mailbox unavailable");
+        verify(outbox, never()).scheduleRetry(any(), any(), any());
+    }
+
+    @Test
+    void shouldCapBackoff() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(4)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(dispatcher.backoff(30)).isEqualTo(Duration.ofHours(1));
+    }
+
+    private OutboxMessage message(int attempts) {
+        return new OutboxMessage(UUID.randomUUID(), "player@example.com", "Subject", "Body",
+                attempts, LocalDateTime.now().minusSeconds(5));
+    }
+}
@@ -1,8 +1,12 @@
 package com.wulghash.gamereleasetracker.infrastructure.persistence;
 
 import com.wulghash.gamereleasetracker.domain.model.Game;
+import com.wulghash.gamereleasetracker.domain.model.GameCursor;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.GameView;
 import com.wulghash.gamereleasetracker.domain.model.Platform;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +16,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -20,6 +25,8 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -46,6 +53,7 @@ class GameRepositoryAdapterTest {
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
         registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
     }
 
     @Autowired
@@ -77,6 +85,27 @@ class GameRepositoryAdapterTest {
         assertThat(saved.getPlatforms()).containsExactlyInAnyOrder(Platform.PC, Platform.PS5);
     }
 
+    @Test
+    void insertShouldWriteNewGamesInOneBatchWithoutLookingThemUp() {
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Game inserted = repository.insert(buildGame("Silksong", Set.of(Platform.SWITCH), LocalDate.of(2026, 9, 4)));
+        repository.insert(buildGame("Hades 3", Set.of(Platform.PC), LocalDate.of(2026, 10, 1)));
+        repository.insert(buildGame("Celeste 2", Set.of(Platform.PS5), LocalDate.of(2026, 11, 2)));
+        em.flush();
+
+        // A merge would have loaded each id before inserting it; persist goes straight to one batched INSERT
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        em.clear();
+        assertThat(repository.findById(inserted.getId(), TEST_USER_ID))
+                .hasValueSatisfying(g -> assertThat(g.getPlatforms()).containsExactly(Platform.SWITCH));
+    }
+
     @Test
     void findByIdShouldReturnGameWhenExists() {
         Game saved = repository.save(buildGame("Hollow Knight 2", Set.of(Platform.PC),
@@ -100,7 +129,7 @@ class GameRepositoryAdapterTest {
         repository.save(buildGame("Game B", Set.of(Platform.PS5), LocalDate.of(2026, 5, 1)));
         repository.save(buildGame("Game C", Set.of(Platform.PC), LocalDate.of(2026, 8, 1)));
 
-        Page<Game> result = repository.findAll(TEST_USER_ID, null, null, null, null, PageRequest.of(0, 10));
+        Page<GameView> result = repository.findAll(TEST_USER_ID, null, null, null, null, PageRequest.of(0, 10));
 
         assertThat(result.getContent()).hasSizeGreaterThanOrEqualTo(3);
     }
@@ -110,10 +139,10 @@ class GameRepositoryAdapterTest {
         repository.save(buildGame("PC Game", Set.of(Platform.PC), LocalDate.of(2026, 3, 1)));
         repository.save(buildGame("PS5 Game", Set.of(Platform.PS5), LocalDate.of(2026, 5, 1)));
 
-        Page<Game> result = repository.findAll(TEST_USER_ID, Platform.PC, null, null, null, PageRequest.of(0, 10));
+        Page<GameView> result = repository.findAll(TEST_USER_ID, Platform.PC, null, null, null, PageRequest.of(0, 10));
 
         assertThat(result.getContent())
-                .allMatch(g -> g.getPlatforms().contains(Platform.PC));
+                .allMatch(g -> g.platforms().contains(Platform.PC));
     }
 
     @Test
@@ -122,34 +151,31 @@ class GameRepositoryAdapterTest {
         repository.save(buildGame("Mid Game", Set.of(Platform.PC), LocalDate.of(2026, 6, 1)));
         repository.save(buildGame("Late Game", Set.of(Platform.PC), LocalDate.of(2026, 12, 1)));
 
-        Page<Game> result = repository.findAll(TEST_USER_ID, null, null,
+        Page<GameView> result = repository.findAll(TEST_USER_ID, null, null,
                 LocalDate.of(2026, 5, 1),
                 LocalDate.of(2026, 7, 1),
                 PageRequest.of(0, 10));
 
         assertThat(result.getContent()).allMatch(g ->
-                !g.getReleaseDate().isBefore(LocalDate.of(2026, 5, 1)) &&
-                !g.getReleaseDate().isAfter(LocalDate.of(2026, 7, 1)));
+                !g.releaseDate().isBefore(LocalDate.of(2026, 5, 1)) &&
+                !g.releaseDate().isAfter(LocalDate.of(2026, 7, 1)));
     }
 
     @Test
     void deleteByIdShouldRemoveGame() {
         Game saved = repository.save(buildGame("To Delete", Set.of(Platform.PC), LocalDate.now()));
 
-        repository.deleteById(saved.getId(), TEST_USER_ID);
+        assertThat(repository.deleteById(saved.getId(), TEST_USER_ID)).isTrue();
 
         assertThat(repository.findById(saved.getId(), TEST_USER_ID)).isEmpty();
     }
 
     @Test
-    void existsByIdShouldReturnTrueWhenExists() {
-        Game saved = repository.save(buildGame("Exists", Set.of(Platform.PC), LocalDate.now()));
-        assertThat(repository.existsById(saved.getId(), TEST_USER_ID)).isTrue();
-    }
+    void deleteByIdShouldReturnFalseForAnotherUsersGame() {
+        Game saved = repository.save(buildGame("Not Mine", Set.of(Platform.PC), LocalDate.now()));
 
-    @Test
-    void existsByIdShouldReturnFalseWhenNotExists() {
-        assertThat(repository.existsById(UUID.randomUUID(), TEST_USER_ID)).isFalse();
+        assertThat(repository.deleteById(saved.getId(), UUID.randomUUID())).isFalse();
+        assertThat(repository.findById(saved.getId(), TEST_USER_ID)).isPresent();
     }
 
     @Test
@@ -157,9 +183,47 @@ class GameRepositoryAdapterTest {
         repository.save(buildGame("Upcoming Game", Set.of(Platform.PC), LocalDate.of(2026, 6, 1), GameStatus.UPCOMING));
         repository.save(buildGame("Released Game", Set.of(Platform.PC), LocalDate.of(2025, 1, 1), GameStatus.RELEASED));
 
-        Page<Game> result = repository.findAll(TEST_USER_ID, null, GameStatus.RELEASED, null, null, PageRequest.of(0, 10));
+        Page<GameView> result = repository.findAll(TEST_USER_ID, null, GameStatus.RELEASED, null, null, PageRequest.of(0, 10));
 
-        assertThat(result.getContent()).allMatch(g -> g.getStatus() == GameStatus.RELEASED);
+        assertThat(result.getContent()).allMatch(g -> g.status() == GameStatus.RELEASED);
+    }
+
+    @Test
+    void findAfterShouldWalkAllGamesByReleaseDateThenIdWithoutRepeats() {
+        LocalDate sameDay = LocalDate.of(2026, 6, 1);
+        for (int i = 0; i < 5; i++) {
+            repository.save(buildGame("Game " + i, Set.of(Platform.PC), i < 3 ? sameDay : sameDay.plusDays(i)));
+        }
+
+        List<GameView> walked = new ArrayList<>();
+        GameCursor cursor = null;
+        Slice<GameView> slice;
+        do {
+            slice = repository.findAfter(TEST_USER_ID, null, null, null, null, cursor, 2);
+            walked.addAll(slice.getContent());
+            if (slice.hasContent()) cursor = GameCursor.of(slice.getContent().get(slice.getNumberOfElements() - 1));
+        } while (slice.hasNext());
+
+        assertThat(walked).hasSize(5);
+        assertThat(walked).extracting(GameView::id).doesNotHaveDuplicates();
+        assertThat(walked).extracting(GameView::releaseDate).isSorted();
+    }
+
+    @Test
+    void releaseAllDueBeforeShouldReleaseOnlyPastDueDatedGames() {
+        LocalDate today = LocalDate.of(2026, 6, 1);
+        Game pastDue = repository.save(buildGame("Past Due", Set.of(Platform.PC), today.minusDays(1)));
+        Game dueToday = repository.save(buildGame("Due Today", Set.of(Platform.PC), today));
+        Game tba = repository.save(buildGame("TBA", Set.of(Platform.PC), today.minusDays(1)).toBuilder().tba(true).build());
+
+        List<UUID> released = repository.releaseAllDueBefore(today);
+        em.clear();
+
+        assertThat(released).contains(pastDue.getId()).doesNotContain(dueToday.getId(), tba.getId());
+        assertThat(repository.findById(pastDue.getId(), TEST_USER_ID)).get()
+                .extracting(Game::getStatus).isEqualTo(GameStatus.RELEASED);
+        assertThat(repository.findById(dueToday.getId(), TEST_USER_ID)).get()
+                .extracting(Game::getStatus).isEqualTo(GameStatus.UPCOMING);
     }
 
     private Game buildGame(String title, Set<Platform> platforms, LocalDate releaseDate) {
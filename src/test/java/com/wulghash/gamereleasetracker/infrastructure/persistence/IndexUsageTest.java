@@ -0,0 +1,142 @@
+package com.wulghash.gamereleasetracker.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN for the hot query shapes against a realistically skewed data set (most games
+ * released, a fraction upcoming) and checks the planner picks the index built for each one.
+ */
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IndexUsageTest {
+
+    private static final String USER_ID = "00000000-0000-4000-8000-000000000001";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("gamereleasetracker_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("""
+                INSERT INTO app_users (id, google_id, email, name)
+                SELECT ('00000000-0000-4000-8000-' || lpad(u::text, 12, '0'))::uuid,
+                       'google-' || u, 'user' || u || '@example.com', 'User ' || u
+                FROM generate_series(1, 200) u
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO games (id, title, release_date, user_id, status, shard_key)
+                SELECT gen_random_uuid(), 'Game ' || i, DATE '2020-01-01' + i % 3000,
+                       ('00000000-0000-4000-8000-' || lpad((i % 200 + 1)::text, 12, '0'))::uuid,
+                       CASE WHEN i % 10 = 0 THEN 'UPCOMING' ELSE 'RELEASED' END,
+                       i % 1024
+                FROM generate_series(1, 20000) i
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO subscriptions (game_id, email)
+                SELECT id, 'fan' || row_number() OVER () || '@example.com' FROM games
+                """);
+        jdbcTemplate.execute("""
+                INSERT INTO backlog_entries (user_id, igdb_id, name, updated_at)
+                SELECT ('00000000-0000-4000-8000-' || lpad((i % 200 + 1)::text, 12, '0'))::uuid,
+                       i, md5(i::text), TIMESTAMP '2026-01-01' + i * INTERVAL '1 minute'
+                FROM generate_series(1, 20000) i
+                """);
+        jdbcTemplate.execute("ANALYZE app_users, games, subscriptions, backlog_entries");
+    }
+
+    @Test
+    void libraryListFilteredByStatusShouldUseUserStatusIndex() {
+        assertThat(plan("""
+                SELECT id FROM games
+                WHERE user_id = '%s' AND status = 'UPCOMING'
+                ORDER BY release_date, id LIMIT 20
+                """.formatted(USER_ID)))
+                .contains("idx_games_user_status_release_date")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    void notificationTargetsShouldUsePartialUpcomingIndex() {
+        assertThat(plan("""
+                SELECT g.id, s.email, s.unsubscribe_token
+                FROM subscriptions s JOIN games g ON g.id = s.game_id
+                WHERE g.status = 'UPCOMING' AND g.release_date = DATE '2024-03-01'
+                  AND mod(g.shard_key, 8) = 0
+                ORDER BY g.id
+                """))
+                .contains("idx_games_upcoming_release_date");
+    }
+
+    @Test
+    void releaseJobShouldUsePartialUpcomingIndex() {
+        assertThat(plan("""
+                UPDATE games SET status = 'RELEASED'
+                WHERE status = 'UPCOMING' AND tba = false AND release_date < DATE '2020-02-01'
+                RETURNING id
+                """))
+                .contains("idx_games_upcoming_release_date");
+    }
+
+    @Test
+    void subscriptionExistsCheckShouldUseUniqueGameEmailIndex() {
+        UUID gameId = jdbcTemplate.queryForObject("SELECT id FROM games LIMIT 1", UUID.class);
+
+        assertThat(plan("""
+                SELECT 1 FROM subscriptions WHERE game_id = '%s' AND email = 'fan1@example.com' LIMIT 1
+                """.formatted(gameId)))
+                .contains("uq_subscription_game_email");
+    }
+
+    @Test
+    void backlogNamePrefixShouldUseExpressionIndex() {
+        assertThat(plan("""
+                SELECT id FROM backlog_entries
+                WHERE user_id = '%s' AND lower(name) LIKE 'ab%%'
+                """.formatted(USER_ID)))
+                .contains("idx_backlog_entries_user_name_prefix");
+    }
+
+    @Test
+    void backlogSortedByUpdatedAtShouldReadIndexInOrder() {
+        assertThat(plan("""
+                SELECT id FROM backlog_entries
+                WHERE user_id = '%s'
+                ORDER BY updated_at DESC, id DESC LIMIT 20
+                """.formatted(USER_ID)))
+                .contains("idx_backlog_entries_user_updated_at")
+                .doesNotContain("Sort");
+    }
+
+    private String plan(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
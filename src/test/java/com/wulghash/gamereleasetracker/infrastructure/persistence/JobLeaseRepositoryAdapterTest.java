@@ -0,0 +1,99 @@
+package com.wulghash.gamereleasetracker.infrastructure.persistence;
+
+import com.wulghash.gamereleasetracker.domain.model.JobCheckpoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JobLeaseRepositoryAdapter.class)
+class JobLeaseRepositoryAdapterTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withDatabaseName("gamereleasetracker_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private JobLeaseRepositoryAdapter leases;
+
+    @Test
+    void nodesShouldClaimDisjointShards() {
+        assertThat(leases.claimShards("sync", "2026-10-17", 8, "node-a", 3, LEASE))
+                .extracting(JobCheckpoint::getShard).containsExactly(0, 1, 2);
+        assertThat(leases.claimShards("sync", "2026-10-17", 8, "node-b", 8, LEASE))
+                .extracting(JobCheckpoint::getShard).containsExactly(3, 4, 5, 6, 7);
+        assertThat(leases.claimShards("sync", "2026-10-17", 8, "node-c", 8, LEASE)).isEmpty();
+    }
+
+    @Test
+    void completedShardShouldOnlyBeClaimedAgainForTheNextRun() {
+        leases.claimShards("sync", "2026-10-17", 1, "node-a", 1, LEASE);
+        leases.completeShard("sync", 0, "node-a");
+
+        assertThat(leases.claimShards("sync", "2026-10-17", 1, "node-b", 1, LEASE)).isEmpty();
+        assertThat(leases.claimShards("sync", "2026-10-18", 1, "node-b", 1, LEASE))
+                .extracting(JobCheckpoint::getShard).containsExactly(0);
+    }
+
+    @Test
+    void unfinishedShardShouldBeTakenOverFromItsCheckpointOnceItsLeaseExpires() {
+        UUID lastId = UUID.randomUUID();
+        leases.claimShards("sync", "2026-10-17", 1, "node-a", 1, Duration.ofSeconds(-1));
+        leases.saveCheckpoint("sync", 0, "node-a", lastId, 500);
+
+        List<JobCheckpoint> taken = leases.claimShards("sync", "2026-10-17", 1, "node-b", 1, LEASE);
+
+        assertThat(taken).singleElement().satisfies(checkpoint -> {
+            assertThat(checkpoint.getLastId()).isEqualTo(lastId);
+            assertThat(checkpoint.getProcessed()).isEqualTo(500);
+        });
+    }
+
+    @Test
+    void runShouldCompleteOnceEveryShardIsDone() {
+        leases.startRun("sync", "2026-10-17");
+        leases.claimShards("sync", "2026-10-17", 2, "node-a", 2, LEASE);
+        leases.completeShard("sync", 0, "node-a");
+        leases.completeRunIfFinished("sync", "2026-10-17", 2);
+        assertThat(leases.isRunCompleted("sync", "2026-10-17")).isFalse();
+
+        leases.completeShard("sync", 1, "node-a");
+        leases.completeRunIfFinished("sync", "2026-10-17", 2);
+        assertThat(leases.isRunCompleted("sync", "2026-10-17")).isTrue();
+    }
+
+    @Test
+    void shouldCountNodesWithRecentHeartbeat() {
+        leases.heartbeat("node-a");
+        leases.heartbeat("node-b");
+
+        assertThat(leases.countLiveNodes(Duration.ofSeconds(90))).isEqualTo(2);
+    }
+}
@@ -0,0 +1,35 @@
+package com.wulghash.gamereleasetracker.infrastructure.persistence;
+
+import com.wulghash.gamereleasetracker.domain.model.Platform;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlatformMaskTest {
+
+    @Test
+    void shouldMatchBitsUsedByMigrationBackfill() {
+        // V18 maps PC=1, PS5=2, XBOX=4, SWITCH=8
+        assertThat(PlatformMask.of(Set.of(Platform.PC))).isEqualTo((short) 1);
+        assertThat(PlatformMask.of(Set.of(Platform.PS5, Platform.SWITCH))).isEqualTo((short) 10);
+        assertThat(PlatformMask.of(EnumSet.allOf(Platform.class))).isEqualTo((short) 15);
+        assertThat(PlatformMask.of(null)).isZero();
+    }
+
+    @Test
+    void shouldRoundTripEverySet() {
+        for (short mask = 0; mask < 16; mask++) {
+            assertThat(PlatformMask.of(PlatformMask.toSet(mask))).isEqualTo(mask);
+        }
+    }
+
+    @Test
+    void containingShouldListEveryMaskWithPlatformBit() {
+        assertThat(PlatformMask.containing(Platform.XBOX))
+                .hasSize(8)
+                .allMatch(mask -> PlatformMask.toSet(mask).contains(Platform.XBOX));
+    }
+}
@@ -1,8 +1,11 @@
 package com.wulghash.gamereleasetracker.infrastructure.persistence;
 
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.JobShard;
+import com.wulghash.gamereleasetracker.domain.model.NotificationTarget;
 import com.wulghash.gamereleasetracker.domain.model.Platform;
 import com.wulghash.gamereleasetracker.domain.model.Subscription;
+import com.wulghash.gamereleasetracker.domain.port.out.SubscriptionRepository.SubscribeOutcome;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +21,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -79,34 +83,13 @@ class SubscriptionRepositoryAdapterTest {
                 .updatedAt(LocalDateTime.now())
                 .build());
         gameId = game.getId();
-    }
-
-    @Test
-    void saveShouldPersistSubscription() {
-        Subscription subscription = buildSubscription(gameId, "player@example.com");
-
-        Subscription saved = subscriptionRepository.save(subscription);
-
-        assertThat(saved.getId()).isNotNull();
-        assertThat(saved.getEmail()).isEqualTo("player@example.com");
-        assertThat(saved.getUnsubscribeToken()).isNotNull();
-    }
-
-    @Test
-    void existsByGameIdAndEmailShouldReturnTrueWhenExists() {
-        subscriptionRepository.save(buildSubscription(gameId, "player@example.com"));
-
-        assertThat(subscriptionRepository.existsByGameIdAndEmail(gameId, "player@example.com")).isTrue();
-    }
-
-    @Test
-    void existsByGameIdAndEmailShouldReturnFalseWhenNotExists() {
-        assertThat(subscriptionRepository.existsByGameIdAndEmail(gameId, "nobody@example.com")).isFalse();
+        em.flush();
     }
 
     @Test
     void findByUnsubscribeTokenShouldReturnSubscription() {
-        Subscription saved = subscriptionRepository.save(buildSubscription(gameId, "player@example.com"));
+        Subscription saved = buildSubscription(gameId, "player@example.com");
+        subscriptionRepository.insert(saved);
 
         Optional<Subscription> found = subscriptionRepository.findByUnsubscribeToken(saved.getUnsubscribeToken());
 
@@ -122,17 +105,38 @@ class SubscriptionRepositoryAdapterTest {
 
     @Test
     void deleteByIdShouldRemoveSubscription() {
-        Subscription saved = subscriptionRepository.save(buildSubscription(gameId, "player@example.com"));
+        Subscription saved = buildSubscription(gameId, "player@example.com");
+        subscriptionRepository.insert(saved);
 
         subscriptionRepository.deleteById(saved.getId());
 
         assertThat(subscriptionRepository.findByUnsubscribeToken(saved.getUnsubscribeToken())).isEmpty();
     }
 
+    @Test
+    void insertShouldReportEachOutcomeFromOneStatement() {
+        assertThat(subscriptionRepository.insert(buildSubscription(gameId, "player@example.com")))
+                .isEqualTo(SubscribeOutcome.INSERTED);
+        assertThat(subscriptionRepository.insert(buildSubscription(gameId, "player@example.com")))
+                .isEqualTo(SubscribeOutcome.ALREADY_SUBSCRIBED);
+        assertThat(subscriptionRepository.insert(buildSubscription(UUID.randomUUID(), "player@example.com")))
+                .isEqualTo(SubscribeOutcome.GAME_NOT_FOUND);
+        assertThat(subscriptionRepository.findAllByGameId(gameId)).hasSize(1);
+    }
+
+    @Test
+    void deleteByUnsubscribeTokenShouldReportWhetherARowWasRemoved() {
+        Subscription saved = buildSubscription(gameId, "player@example.com");
+        subscriptionRepository.insert(saved);
+
+        assertThat(subscriptionRepository.deleteByUnsubscribeToken(saved.getUnsubscribeToken())).isTrue();
+        assertThat(subscriptionRepository.deleteByUnsubscribeToken(saved.getUnsubscribeToken())).isFalse();
+    }
+
     @Test
     void findAllByGameIdShouldReturnAllSubscribersForGame() {
-        subscriptionRepository.save(buildSubscription(gameId, "alice@example.com"));
-        subscriptionRepository.save(buildSubscription(gameId, "bob@example.com"));
+        subscriptionRepository.insert(buildSubscription(gameId, "alice@example.com"));
+        subscriptionRepository.insert(buildSubscription(gameId, "bob@example.com"));
 
         List<Subscription> result = subscriptionRepository.findAllByGameId(gameId);
 
@@ -141,6 +145,34 @@ class SubscriptionRepositoryAdapterTest {
                 .containsExactlyInAnyOrder("alice@example.com", "bob@example.com");
     }
 
+    @Test
+    void forEachNotificationTargetShouldJoinGamesWithTheirSubscribers() {
+        subscriptionRepository.insert(buildSubscription(gameId, "alice@example.com"));
+        subscriptionRepository.insert(buildSubscription(gameId, "bob@example.com"));
+
+        List<NotificationTarget> targets = new ArrayList<>();
+        subscriptionRepository.forEachNotificationTarget(GameStatus.UPCOMING, LocalDate.of(2026, 6, 15), JobShard.of(0, 1), targets::add);
+
+        assertThat(targets).extracting(NotificationTarget::getEmail)
+                .containsExactlyInAnyOrder("alice@example.com", "bob@example.com");
+        assertThat(targets).extracting(t -> t.getGame().getId()).containsOnly(gameId);
+    }
+
+    @Test
+    void forEachNotificationTargetShouldOnlyReturnGamesOfTheShard() {
+        subscriptionRepository.insert(buildSubscription(gameId, "alice@example.com"));
+        JobShard owning = JobShard.of(JobShard.keyOf(gameId) % 2, 2);
+        JobShard other = JobShard.of(1 - owning.getIndex(), 2);
+
+        List<NotificationTarget> owned = new ArrayList<>();
+        List<NotificationTarget> elsewhere = new ArrayList<>();
+        subscriptionRepository.forEachNotificationTarget(GameStatus.UPCOMING, LocalDate.of(2026, 6, 15), owning, owned::add);
+        subscriptionRepository.forEachNotificationTarget(GameStatus.UPCOMING, LocalDate.of(2026, 6, 15), other, elsewhere::add);
+
+        assertThat(owned).hasSize(1);
+        assertThat(elsewhere).isEmpty();
+    }
+
     private Subscription buildSubscription(UUID gameId, String email) {
         return Subscription.builder()
                 .id(UUID.randomUUID())
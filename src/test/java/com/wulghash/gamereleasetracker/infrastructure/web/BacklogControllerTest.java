@@ -0,0 +1,105 @@
+package com.wulghash.gamereleasetracker.infrastructure.web;
+
+import com.wulghash.gamereleasetracker.domain.model.AppUser;
+import com.wulghash.gamereleasetracker.domain.model.BacklogEntryView;
+import com.wulghash.gamereleasetracker.domain.model.BacklogStatus;
+import com.wulghash.gamereleasetracker.domain.port.in.BacklogUseCase;
+import com.wulghash.gamereleasetracker.infrastructure.web.security.AppUserPrincipal;
+import com.wulghash.gamereleasetracker.infrastructure.web.security.OAuth2UserService;
+import com.wulghash.gamereleasetracker.infrastructure.web.security.SecurityConfig;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.oauth2Login;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(BacklogController.class)
+@Import(SecurityConfig.class)
+@org.springframework.test.context.TestPropertySource(properties = {
+        "spring.security.oauth2.client.registration.google.client-id=test-id",
+        "spring.security.oauth2.client.registration.google.client-secret=test-secret"
+})
+class BacklogControllerTest {
+
+    static final UUID TEST_USER_ID = UUID.randomUUID();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BacklogUseCase backlogUseCase;
+
+    @MockitoBean
+    private OAuth2UserService oAuth2UserService;
+
+    private static AppUserPrincipal mockPrincipal() {
+        AppUser user = AppUser.builder()
+                .id(TEST_USER_ID)
+                .googleId("google-test-123")
+                .email("test@example.com")
+                .name("Test User")
+                .createdAt(LocalDateTime.now())
+                .build();
+        return new AppUserPrincipal(user);
+    }
+
+    @Test
+    void getShouldPassFiltersAndPagingToUseCase() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        BacklogEntryView entry = new BacklogEntryView(UUID.randomUUID(), TEST_USER_ID, 1942L, "Elden Ring", null,
+                LocalDate.of(2022, 2, 25), BacklogStatus.PLAYING, 95, 9, null, now, now);
+        when(backlogUseCase.list(eq(TEST_USER_ID), eq(BacklogStatus.PLAYING), eq("eld"),
+                eq(LocalDate.of(2022, 1, 1)), eq(LocalDate.of(2022, 12, 31)), any()))
+                .thenReturn(new PageImpl<>(List.of(entry), PageRequest.of(1, 5), 6));
+
+        mockMvc.perform(get("/api/v1/backlog")
+                        .param("status", "PLAYING")
+                        .param("name", "eld")
+                        .param("from", "2022-01-01")
+                        .param("to", "2022-12-31")
+                        .param("page", "1")
+                        .param("size", "5")
+                        .param("sort", "rating,desc")
+                        .with(oauth2Login().oauth2User(mockPrincipal())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Elden Ring"))
+                .andExpect(jsonPath("$.totalElements").value(6));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(backlogUseCase).list(eq(TEST_USER_ID), any(), any(), any(), any(), pageable.capture());
+        assertThat(pageable.getValue().getPageNumber()).isEqualTo(1);
+        assertThat(pageable.getValue().getPageSize()).isEqualTo(5);
+        assertThat(pageable.getValue().getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "rating"));
+    }
+
+    @Test
+    void getShouldReturn400ForUnsupportedSort() throws Exception {
+        mockMvc.perform(get("/api/v1/backlog").param("sort", "notes")
+                        .with(oauth2Login().oauth2User(mockPrincipal())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").isNotEmpty());
+
+        verifyNoInteractions(backlogUseCase);
+    }
+}
@@ -3,8 +3,10 @@ package com.wulghash.gamereleasetracker.infrastructure.web;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wulghash.gamereleasetracker.domain.model.AppUser;
 import com.wulghash.gamereleasetracker.domain.model.Game;
+import com.wulghash.gamereleasetracker.domain.model.GameCursor;
 import com.wulghash.gamereleasetracker.domain.model.GameNotFoundException;
 import com.wulghash.gamereleasetracker.domain.model.GameStatus;
+import com.wulghash.gamereleasetracker.domain.model.GameView;
 import com.wulghash.gamereleasetracker.domain.model.InvalidStatusTransitionException;
 import com.wulghash.gamereleasetracker.domain.model.Platform;
 import com.wulghash.gamereleasetracker.domain.port.in.GameUseCase;
@@ -14,11 +16,13 @@ import com.wulghash.gamereleasetracker.infrastructure.web.security.AppUserPrinci
 import com.wulghash.gamereleasetracker.infrastructure.web.security.OAuth2UserService;
 import com.wulghash.gamereleasetracker.infrastructure.web.security.SecurityConfig;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -29,8 +33,10 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -147,9 +153,9 @@ class GameControllerTest {
 
     @Test
     void getShouldReturnPagedList() throws Exception {
-        List<Game> games = List.of(
-                buildGame(UUID.randomUUID(), "Game A", GameStatus.UPCOMING),
-                buildGame(UUID.randomUUID(), "Game B", GameStatus.UPCOMING)
+        List<GameView> games = List.of(
+                buildView(UUID.randomUUID(), "Game A"),
+                buildView(UUID.randomUUID(), "Game B")
         );
         when(gameUseCase.list(eq(TEST_USER_ID), any(), any(), any(), any(), any()))
                 .thenReturn(new PageImpl<>(games, PageRequest.of(0, 10), 2));
@@ -162,6 +168,47 @@ class GameControllerTest {
                 .andExpect(jsonPath("$.totalElements").value(2));
     }
 
+    @Test
+    void getWithEmptyCursorShouldReturnFirstSliceAndNextCursor() throws Exception {
+        GameView last = buildView(UUID.randomUUID(), "Game B");
+        List<GameView> games = List.of(buildView(UUID.randomUUID(), "Game A"), last);
+        when(gameUseCase.listAfter(eq(TEST_USER_ID), any(), any(), any(), any(), isNull(), eq(2)))
+                .thenReturn(new SliceImpl<>(games, PageRequest.of(0, 2), true));
+
+        String next = GameCursorCodec.encode(GameCursor.of(last));
+        mockMvc.perform(get("/api/v1/games").param("after", "").param("size", "2")
+                        .with(oauth2Login().oauth2User(mockPrincipal())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.next").value(next))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void getWithCursorShouldContinueAfterIt() throws Exception {
+        GameView previous = buildView(UUID.randomUUID(), "Game A");
+        when(gameUseCase.listAfter(eq(TEST_USER_ID), any(), any(), any(), any(), any(), eq(20)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+
+        mockMvc.perform(get("/api/v1/games").param("after", GameCursorCodec.encode(GameCursor.of(previous)))
+                        .with(oauth2Login().oauth2User(mockPrincipal())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        ArgumentCaptor<GameCursor> cursor = ArgumentCaptor.forClass(GameCursor.class);
+        verify(gameUseCase).listAfter(eq(TEST_USER_ID), any(), any(), any(), any(), cursor.capture(), eq(20));
+        assertThat(cursor.getValue().getId()).isEqualTo(previous.id());
+        assertThat(cursor.getValue().getReleaseDate()).isEqualTo(previous.releaseDate());
+    }
+
+    @Test
+    void getWithMalformedCursorShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/games").param("after", "not-a-cursor")
+                        .with(oauth2Login().oauth2User(mockPrincipal())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").isNotEmpty());
+    }
+
     @Test
     void putShouldReturn200WithUpdatedGame() throws Exception {
         UUID id = UUID.randomUUID();
@@ -280,4 +327,10 @@ class GameControllerTest {
                 .updatedAt(now)
                 .build();
     }
+
+    private GameView buildView(UUID id, String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return new GameView(id, title, null, LocalDate.of(2026, 6, 15), Set.of(Platform.PC), GameStatus.UPCOMING,
+                null, null, null, null, null, false, now, now);
+    }
 }
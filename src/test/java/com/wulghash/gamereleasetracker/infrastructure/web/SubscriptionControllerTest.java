@@ -5,6 +5,7 @@ import com.wulghash.gamereleasetracker.domain.model.GameAlreadySubscribedExcepti
 import com.wulghash.gamereleasetracker.domain.model.GameNotFoundException;
 import com.wulghash.gamereleasetracker.domain.model.SubscriptionNotFoundException;
 import com.wulghash.gamereleasetracker.domain.port.in.SubscriptionUseCase;
+import com.wulghash.gamereleasetracker.infrastructure.web.dto.DigestPreferenceRequest;
 import com.wulghash.gamereleasetracker.infrastructure.web.dto.SubscribeRequest;
 import com.wulghash.gamereleasetracker.infrastructure.web.security.OAuth2UserService;
 import com.wulghash.gamereleasetracker.infrastructure.web.security.SecurityConfig;
@@ -110,4 +111,24 @@ class SubscriptionControllerTest {
         mockMvc.perform(get("/api/v1/unsubscribe/{token}", token))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    void setDigestModeShouldReturn204WithoutLogin() throws Exception {
+        UUID token = UUID.randomUUID();
+
+        mockMvc.perform(put("/api/v1/subscriptions/{token}/digest", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new DigestPreferenceRequest(true))))
+                .andExpect(status().isNoContent());
+
+        verify(subscriptionUseCase).setDigestMode(token, true);
+    }
+
+    @Test
+    void setDigestModeShouldReturn400WhenEnabledMissing() throws Exception {
+        mockMvc.perform(put("/api/v1/subscriptions/{token}/digest", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
 }